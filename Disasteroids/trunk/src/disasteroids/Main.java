@@ -42,6 +42,20 @@ public class Main
 
 	private static BufferedWriter logFileStream = null;
 
+	/**
+	 * Command-line parameter that starts a dedicated (windowless) server.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public static final String DEDICATED_SERVER_PARAMETER = "-dedicated";
+
+	/**
+	 * Whether we're running as a dedicated server, with no window, sound, or particles.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static boolean headless = false;
+
 	/**
 	 * The application entry point. Loads user settings and runs the menu.
 	 * Users can skip the menu and select a <code>MenuOption</code> via the command line.
@@ -71,12 +85,29 @@ public class Main
 		{
 		}
 
+		// Dedicated servers never touch the display.
+		for ( String arg : args )
+		{
+			if ( arg.equals( DEDICATED_SERVER_PARAMETER ) )
+			{
+				headless = true;
+				System.setProperty( "java.awt.headless", "true" );
+			}
+		}
+
 		// Load external images.
-		ImageLibrary.init();
+		if ( !headless )
+			ImageLibrary.init();
 
 		// Load stored settings.
 		Settings.loadFromStorage();
 
+		if ( headless )
+		{
+			startDedicatedServer();
+			return;
+		}
+
 		// The user can skip the menu with a command-line argument.
 		for ( String arg : args )
 		{
@@ -218,6 +249,31 @@ public class Main
 			new Server();
 	}
 
+	/**
+	 * Starts a dedicated server: the game, loop, and server run as normal, but without a local player or window.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static void startDedicatedServer()
+	{
+		new Game( Settings.getLastLevel(), Cooperative.class );
+		GameLoop.startLoop();
+		Game.getInstance().setPaused( false, false );
+		new Server();
+		Main.log( "Dedicated server started! The address is: " + Server.getLocalIP() + "." );
+	}
+
+	/**
+	 * Returns whether we're running as a dedicated server. If so, all graphics, particles, and sounds are skipped.
+	 * 
+	 * @return whether there's no display
+	 * @since October 18, 2026
+	 */
+	public static boolean isHeadless()
+	{
+		return headless;
+	}
+
 	/**
 	 * Logs a message to <code>println</code> and the <code>AsteroidsFrame</code> (if it exists).
 	 * 
@@ -292,8 +348,10 @@ public class Main
 	public static void fatalError( String message )
 	{
 		GameLoop.stopLoop();
-		MainWindow.frame().dispose();
-		JOptionPane.showMessageDialog( null, message + "\n\nShutting down...", "Disasteroids: Very Fatal Error", JOptionPane.ERROR_MESSAGE );
+		if ( MainWindow.frame() != null )
+			MainWindow.frame().dispose();
+		if ( !headless )
+			JOptionPane.showMessageDialog( null, message + "\n\nShutting down...", "Disasteroids: Very Fatal Error", JOptionPane.ERROR_MESSAGE );
 		System.out.println( "FATAL ERROR: " + message );
 		errorCount++;
 		Main.quit();
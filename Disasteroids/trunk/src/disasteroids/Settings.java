@@ -12,9 +12,12 @@ import java.io.IOException;
 import java.util.Properties;
 
 import disasteroids.game.Game;
+import disasteroids.game.GameLoop;
 import disasteroids.game.levels.EmptyLevel;
 import disasteroids.game.levels.WaveGameplay;
 import disasteroids.game.objects.Ship;
+import disasteroids.gui.Radar;
+import disasteroids.gui.RenderLoop;
 
 /**
  * Writes and retrieves the user's settings from a file.
@@ -72,6 +75,10 @@ public class Settings
 				// defaultSettings.put( "lowScorer", "Matt" );
 				defaultSettings.put( "playerName", "Player" );
 				defaultSettings.put( "playerColor", String.valueOf( Color.red.getRGB() ) );
+				defaultSettings.put( "gameSpeed", String.valueOf( GameLoop.DEFAULT_TICK_RATE ) );
+				defaultSettings.put( "frameRateCap", String.valueOf( RenderLoop.DEFAULT_FRAME_RATE_CAP ) );
+				defaultSettings.put( "vsync", String.valueOf( true ) );
+				defaultSettings.put( "radarRefreshRate", String.valueOf( Radar.DEFAULT_REFRESH_RATE ) );
 			}
 
 			// Create the user's settings with the defaults as a base.
@@ -260,6 +267,102 @@ public class Settings
 		userSettings.put( "qualityRendering", String.valueOf( aQualityRendering ) );
 	}
 
+	/**
+	 * Returns how fast the game should run when we're the host, in ticks per second.
+	 * 
+	 * Everything moves a fixed amount each tick, so this is the game's speed, not just how finely it's simulated:
+	 * <code>GameLoop.DEFAULT_TICK_RATE</code> is normal speed, and twice that is twice as fast.
+	 * @since October 18, 2026
+	 */
+	public static int getGameSpeed()
+	{
+		try
+		{
+			return Math.max( 1, Integer.parseInt( userSettings.getProperty( "gameSpeed" ) ) );
+		}
+		catch ( NumberFormatException e )
+		{
+			return GameLoop.DEFAULT_TICK_RATE;
+		}
+	}
+
+	/**
+	 * Sets how fast the game should run when we're the host, in ticks per second.
+	 * @since October 18, 2026
+	 */
+	public static void setGameSpeed( int aGameSpeed )
+	{
+		userSettings.put( "gameSpeed", String.valueOf( aGameSpeed ) );
+	}
+
+	/**
+	 * Returns the most frames per second we should draw, or 0 for no limit.
+	 * @since October 18, 2026
+	 */
+	public static int getFrameRateCap()
+	{
+		try
+		{
+			return Math.max( 0, Integer.parseInt( userSettings.getProperty( "frameRateCap" ) ) );
+		}
+		catch ( NumberFormatException e )
+		{
+			return RenderLoop.DEFAULT_FRAME_RATE_CAP;
+		}
+	}
+
+	/**
+	 * Sets the most frames per second we should draw, or 0 for no limit.
+	 * @since October 18, 2026
+	 */
+	public static void setFrameRateCap( int aFrameRateCap )
+	{
+		userSettings.put( "frameRateCap", String.valueOf( aFrameRateCap ) );
+	}
+
+	/**
+	 * Returns whether frames should be held to the display's refresh rate.
+	 * @since October 18, 2026
+	 */
+	public static boolean isVsync()
+	{
+		return Boolean.parseBoolean( userSettings.getProperty( "vsync" ) );
+	}
+
+	/**
+	 * Sets whether frames should be held to the display's refresh rate.
+	 * @since October 18, 2026
+	 */
+	public static void setVsync( boolean aVsync )
+	{
+		userSettings.put( "vsync", String.valueOf( aVsync ) );
+	}
+
+	/**
+	 * Returns how many times per second the radar should be redrawn.
+	 * @since October 18, 2026
+	 */
+	public static int getRadarRefreshRate()
+	{
+		try
+		{
+			return Math.max( 1, Integer.parseInt( userSettings.getProperty( "radarRefreshRate" ) ) );
+		}
+		catch ( NumberFormatException e )
+		{
+			return Radar.DEFAULT_REFRESH_RATE;
+		}
+	}
+
+	/**
+	 * Sets how many times per second the radar should be redrawn.
+	 * @since October 18, 2026
+	 */
+	public static void setRadarRefreshRate( int aRadarRefreshRate )
+	{
+		userSettings.put( "radarRefreshRate", String.valueOf( aRadarRefreshRate ) );
+	}
+
 	/**
 	 * Returns the highest score we've seen on this computer.
 	 * @since December 18, 2007
@@ -160,6 +160,62 @@ public class Util
 		return Math.atan2( getDeltaY( one.getY(), y ), -getDeltaX( one.getX(), x ) );
 	}
 
+	/**
+	 * Returns whether a point that moved in a straight line came within <code>reach</code> of a circle's center.
+	 * 
+	 * @param x where the point ended up, relative to the center
+	 * @param y where the point ended up, relative to the center
+	 * @param moveX how far the point moved
+	 * @param moveY how far the point moved
+	 * @since October 18, 2026
+	 */
+	public static boolean pathTouchesCircle( double x, double y, double moveX, double moveY, double reach )
+	{
+		double lengthSquared = moveX * moveX + moveY * moveY;
+		double startX = x - moveX, startY = y - moveY;
+
+		// The closest we came.
+		double t = ( lengthSquared > 0 ) ? Math.max( 0, Math.min( 1, -( startX * moveX + startY * moveY ) / lengthSquared ) ) : 1;
+		double closestX = startX + moveX * t, closestY = startY + moveY * t;
+		return closestX * closestX + closestY * closestY < reach * reach;
+	}
+
+	/**
+	 * Returns whether a point that moved in a straight line, ending up at ( <code>x</code>, <code>y</code> ), passed
+	 * through the inside of a box.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public static boolean pathTouchesBox( double x, double y, double moveX, double moveY, double left, double top, double right, double bottom )
+	{
+		// Narrow down the part of the path that's between the sides, one axis at a time.
+		double enter = 0, exit = 1;
+		double startX = x - moveX, startY = y - moveY;
+		if ( moveX == 0 )
+		{
+			if ( startX <= left || startX >= right )
+				return false;
+		}
+		else
+		{
+			double t1 = ( left - startX ) / moveX, t2 = ( right - startX ) / moveX;
+			enter = Math.max( enter, Math.min( t1, t2 ) );
+			exit = Math.min( exit, Math.max( t1, t2 ) );
+		}
+		if ( moveY == 0 )
+		{
+			if ( startY <= top || startY >= bottom )
+				return false;
+		}
+		else
+		{
+			double t1 = ( top - startY ) / moveY, t2 = ( bottom - startY ) / moveY;
+			enter = Math.max( enter, Math.min( t1, t2 ) );
+			exit = Math.min( exit, Math.max( t1, t2 ) );
+		}
+		return enter < exit;
+	}
+
 	/**
 	 * Returns a random generator for use in the graphics thread only.
 	 */
@@ -0,0 +1,277 @@
+/*
+ * DISASTEROIDS
+ * CollisionSystem.java
+ */
+package disasteroids.game;
+
+import java.util.Arrays;
+
+import disasteroids.game.objects.Alien;
+import disasteroids.game.objects.Asteroid;
+import disasteroids.game.objects.Bonus;
+import disasteroids.game.objects.GameObject;
+import disasteroids.game.objects.Ship;
+import disasteroids.game.objects.ShootingObject;
+import disasteroids.game.objects.Station;
+import disasteroids.game.weapons.Laser;
+import disasteroids.game.weapons.Unit;
+
+/**
+ * Finds everything that's touching, once per step, and tells the objects involved.
+ *
+ * Runs after every object has acted. The <code>ObjectManager</code>'s collision grid is rebuilt, and each object that
+ * can be hit looks up what's near it. Pairs that touch (see <code>GameObject.isTouching</code>) and that we have a
+ * handler for become contacts. Fast units are also checked along the path they took, against the real shape of what
+ * they might hit (see <code>Unit.sweptTouches</code>), so they can't skip through things between steps. Each pair is
+ * only found once: it's found from the side of whichever kind comes first in <code>KIND_*</code> order, and units never
+ * look. Laser beams are the exception: they're too long to be found by what they hit, so each traces itself through the
+ * grid and stops at the nearest thing it touches that it can hit; anything it can't hit, it passes through. Contacts
+ * are then handled in the order the objects were added to the game, so the outcome doesn't depend on hashing or timing.
+ *
+ * Objects removed by an earlier contact (a split asteroid, an exploded bullet) are skipped. Spawns and removals are
+ * queued until every contact has been handled.
+ *
+ * @author Phillip Cohen
+ * @since October 18, 2026
+ */
+public class CollisionSystem
+{
+	/**
+	 * The kinds of objects that collide. The object whose kind comes first is the one whose <code>isTouching</code>
+	 * decides, and whose handler is called; so boxes (stations, aliens) come before circles.
+	 */
+	private static final int KIND_NONE = -1, KIND_STATION = 0, KIND_ALIEN = 1, KIND_ASTEROID = 2, KIND_BONUS = 3, KIND_SHIP = 4, KIND_UNIT = 5, KIND_BEAM = 6;
+
+	private static final int KIND_COUNT = 7;
+
+	/**
+	 * Which pairs of kinds we handle, indexed by [first kind][second kind]. Beams hit whatever units can hit, but
+	 * find it themselves; so nothing looks for them.
+	 */
+	private static final boolean[][] HANDLED = new boolean[KIND_COUNT][KIND_COUNT];
+
+	static
+	{
+		HANDLED[KIND_STATION][KIND_SHIP] = HANDLED[KIND_STATION][KIND_UNIT] = true;
+		HANDLED[KIND_ALIEN][KIND_SHIP] = HANDLED[KIND_ALIEN][KIND_UNIT] = true;
+		HANDLED[KIND_ASTEROID][KIND_SHIP] = HANDLED[KIND_ASTEROID][KIND_UNIT] = true;
+		HANDLED[KIND_BONUS][KIND_SHIP] = true;
+		HANDLED[KIND_SHIP][KIND_UNIT] = true;
+	}
+
+	/**
+	 * The kind of each item in the grid, by grid index.
+	 */
+	private int[] kinds = new int[128];
+
+	/**
+	 * This step's contacts. Each is the grid indices of the two objects, packed as <code>( first &lt;&lt; 32 ) | second</code>
+	 * so that sorting puts them in order.
+	 */
+	private long[] contacts = new long[64];
+
+	private int contactCount = 0;
+
+	private final SpatialGrid.Results candidates = new SpatialGrid.Results();
+
+	/**
+	 * Finds and handles this step's collisions.
+	 */
+	public void act()
+	{
+		ObjectManager objectManager = Game.getInstance().getObjectManager();
+		objectManager.rebuildCollisionGrid();
+		SpatialGrid grid = objectManager.getCollisionGrid();
+
+		findContacts( grid );
+
+		objectManager.beginDeferring();
+		try
+		{
+			for ( int i = 0; i < contactCount; i++ )
+				handleContact( grid, (int) ( contacts[i] >>> 32 ), (int) contacts[i] );
+		}
+		finally
+		{
+			objectManager.endDeferring();
+		}
+	}
+
+	/**
+	 * Fills <code>contacts</code> with every pair that's touching, in order.
+	 */
+	private void findContacts( SpatialGrid grid )
+	{
+		contactCount = 0;
+		int count = grid.size();
+		if ( kinds.length < count )
+			kinds = new int[Math.max( count, kinds.length * 2 )];
+		for ( int i = 0; i < count; i++ )
+			kinds[i] = getKind( grid.getItem( i ) );
+
+		for ( int i = 0; i < count; i++ )
+		{
+			int kind = kinds[i];
+			if ( kind == KIND_NONE || kind == KIND_UNIT )
+				continue;
+
+			GameObject go = grid.getItem( i );
+			if ( go.isRemoved() )
+				continue;
+
+			if ( kind == KIND_BEAM )
+			{
+				findBeamContact( grid, i );
+				continue;
+			}
+
+			grid.query( go.getX(), go.getY(), go.getCollisionRadius(), candidates );
+			for ( int c = 0; c < candidates.size(); c++ )
+			{
+				int j = candidates.getIndex( c );
+				if ( kinds[j] == KIND_NONE || !HANDLED[kind][kinds[j]] )
+					continue;
+
+				// Our own shots can't hit us.
+				if ( grid.getOwner( j ) == go )
+					continue;
+
+				if ( isTouching( go, grid.getItem( j ), kinds[j] ) )
+					addContact( i, j );
+			}
+		}
+
+		Arrays.sort( contacts, 0, contactCount );
+	}
+
+	/**
+	 * Returns whether an object and a candidate touch, sweeping the candidate along its last step if it's a fast unit.
+	 */
+	private static boolean isTouching( GameObject go, GameObject candidate, int candidateKind )
+	{
+		if ( go.isTouching( candidate ) )
+			return true;
+
+		return candidateKind == KIND_UNIT && ( (Unit) candidate ).isFast() && ( (Unit) candidate ).sweptTouches( go );
+	}
+
+	/**
+	 * Traces a beam through the grid, and adds a contact with the nearest thing it touches and can hit (if any).
+	 */
+	private void findBeamContact( SpatialGrid grid, int beamIndex )
+	{
+		Laser beam = (Laser) grid.getItem( beamIndex );
+		double endX = beam.getX() + beam.getLength() * Math.cos( beam.getAngle() );
+		double endY = beam.getY() - beam.getLength() * Math.sin( beam.getAngle() );
+		grid.querySegment( beam.getX(), beam.getY(), endX, endY, beam.getRadius(), candidates );
+
+		int nearest = -1;
+		double nearestDistance = 0;
+		for ( int c = 0; c < candidates.size(); c++ )
+		{
+			int j = candidates.getIndex( c );
+			if ( kinds[j] == KIND_NONE || !HANDLED[kinds[j]][KIND_UNIT] || grid.getOwner( beamIndex ) == grid.getItem( j ) || !canBeHit( grid.getItem( j ), kinds[j], beam ) )
+				continue;
+
+			double distance = beam.getHitDistance( grid.getItem( j ) );
+			if ( distance >= 0 && ( nearest == -1 || distance < nearestDistance ) )
+			{
+				nearest = j;
+				nearestDistance = distance;
+			}
+		}
+
+		if ( nearest != -1 )
+		{
+			beam.stopAt( nearestDistance );
+			addContact( nearest, beamIndex );
+		}
+	}
+
+	/**
+	 * Returns whether a unit that touches the given object would hit it (see each kind's <code>hitBy</code>).
+	 */
+	private static boolean canBeHit( GameObject go, int kind, Unit m )
+	{
+		switch ( kind )
+		{
+			case KIND_ALIEN:
+				return ( (Alien) go ).canBeHitBy( m );
+			case KIND_ASTEROID:
+				return ( (Asteroid) go ).canBeHitBy( m );
+			case KIND_SHIP:
+				return ( (Ship) go ).canBeHitBy( m );
+			default:
+				return true;
+		}
+	}
+
+	private void addContact( int first, int second )
+	{
+		if ( contactCount == contacts.length )
+		{
+			long[] newContacts = new long[contactCount * 2];
+			System.arraycopy( contacts, 0, newContacts, 0, contactCount );
+			contacts = newContacts;
+		}
+		contacts[contactCount++] = ( (long) first << 32 ) | second;
+	}
+
+	/**
+	 * Passes a contact to the handler for its pair of kinds.
+	 */
+	private void handleContact( SpatialGrid grid, int first, int second )
+	{
+		GameObject a = grid.getItem( first ), b = grid.getItem( second );
+		ShootingObject shooter = grid.getOwner( second );
+		if ( a.isRemoved() || b.isRemoved() || ( shooter != null && shooter.isRemoved() ) )
+			return;
+
+		switch ( kinds[first] )
+		{
+			case KIND_STATION:
+				if ( kinds[second] != KIND_SHIP )
+					( (Station) a ).hitBy( (Unit) b, shooter );
+				else
+					( (Station) a ).rammedBy( (Ship) b );
+				break;
+			case KIND_ALIEN:
+				if ( kinds[second] != KIND_SHIP )
+					( (Alien) a ).hitBy( (Unit) b, shooter );
+				else
+					( (Alien) a ).rammedBy( (Ship) b );
+				break;
+			case KIND_ASTEROID:
+				if ( kinds[second] != KIND_SHIP )
+					( (Asteroid) a ).hitBy( (Unit) b, shooter );
+				else
+					( (Asteroid) a ).rammedBy( (Ship) b );
+				break;
+			case KIND_BONUS:
+				( (Bonus) a ).pickedUpBy( (Ship) b );
+				break;
+			case KIND_SHIP:
+				( (Ship) a ).hitBy( (Unit) b, shooter );
+				break;
+		}
+	}
+
+	private static int getKind( GameObject go )
+	{
+		if ( go instanceof Laser )
+			return KIND_BEAM;
+		if ( go instanceof Unit )
+			return KIND_UNIT;
+		if ( go instanceof Ship )
+			return KIND_SHIP;
+		if ( go instanceof Asteroid )
+			return KIND_ASTEROID;
+		if ( go instanceof Station )
+			return KIND_STATION;
+		if ( go instanceof Alien )
+			return KIND_ALIEN;
+		if ( go instanceof Bonus )
+			return KIND_BONUS;
+		return KIND_NONE;
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * DISASTEROIDS
+ * EntityRegistry.java
+ */
+package disasteroids.game;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import disasteroids.game.objects.GameObject;
+
+/**
+ * A list of one type of game object (asteroids, players...) that supports constant-time removal.
+ *
+ * Objects are kept in a dense array, and each object remembers its index in each registry it's in. Removing an object
+ * moves the last one into its place, so the order isn't stable; unless the registry is <i>ordered</i>, in which case
+ * the later objects shift down instead (linear time, so only for short lists like the players). Iterators cope with the
+ * current object being removed, but an object may be skipped for one pass if an earlier one is removed mid-iteration.
+ * (During <code>ObjectManager.act</code> removals are deferred, so that doesn't happen; objects that are waiting to be
+ * removed are skipped instead.)
+ *
+ * Adding and removing are synchronized; reading isn't, and tolerates concurrent changes (used by the renderer).
+ *
+ * @author Phillip Cohen
+ * @since October 18, 2026
+ */
+public class EntityRegistry<T extends GameObject> implements Iterable<T>
+{
+	/**
+	 * Which registry this is (one of the <code>ObjectManager.REGISTRY_*</code> constants). Used to find our slot in
+	 * each object.
+	 */
+	private final int registry;
+
+	/**
+	 * Whether objects stay in the order they were added.
+	 * @since October 18, 2026
+	 */
+	private final boolean ordered;
+
+	private volatile GameObject[] items = new GameObject[16];
+
+	private volatile int size = 0;
+
+	public EntityRegistry( int registry )
+	{
+		this( registry, false );
+	}
+
+	public EntityRegistry( int registry, boolean ordered )
+	{
+		this.registry = registry;
+		this.ordered = ordered;
+	}
+
+	/**
+	 * Adds the object, unless it's already here.
+	 */
+	public synchronized void add( T go )
+	{
+		if ( go.getRegistrySlot( registry ) != -1 )
+			return;
+
+		if ( size == items.length )
+		{
+			GameObject[] newItems = new GameObject[items.length * 2];
+			System.arraycopy( items, 0, newItems, 0, size );
+			items = newItems;
+		}
+		items[size] = go;
+		go.setRegistrySlot( registry, size );
+		size++;
+	}
+
+	/**
+	 * Removes the object in constant time, by moving the last object into its slot. If we're ordered, the later
+	 * objects all shift down one instead.
+	 */
+	public synchronized void remove( GameObject go )
+	{
+		int slot = go.getRegistrySlot( registry );
+		if ( slot == -1 || slot >= size || items[slot] != go )
+			return;
+
+		int last = size - 1;
+		if ( ordered )
+		{
+			System.arraycopy( items, slot + 1, items, slot, last - slot );
+			for ( int i = slot; i < last; i++ )
+				items[i].setRegistrySlot( registry, i );
+		}
+		else if ( slot != last )
+		{
+			items[slot] = items[last];
+			items[slot].setRegistrySlot( registry, slot );
+		}
+		items[last] = null;
+		size = last;
+		go.setRegistrySlot( registry, -1 );
+	}
+
+	public synchronized void clear()
+	{
+		for ( int i = 0; i < size; i++ )
+		{
+			items[i].setRegistrySlot( registry, -1 );
+			items[i] = null;
+		}
+		size = 0;
+	}
+
+	public boolean contains( GameObject go )
+	{
+		int slot = go.getRegistrySlot( registry );
+		return slot != -1 && get( slot ) == go;
+	}
+
+	/**
+	 * Returns the object at the given index, or <code>null</code> if it's out of range.
+	 */
+	@SuppressWarnings( "unchecked" )
+	public T get( int index )
+	{
+		GameObject[] snapshot = items;
+		return index < snapshot.length ? (T) snapshot[index] : null;
+	}
+
+	/**
+	 * Returns the first object, or <code>null</code> if there are none.
+	 */
+	public T peek()
+	{
+		return size == 0 ? null : get( 0 );
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	public Iterator<T> iterator()
+	{
+		return new RegistryIterator();
+	}
+
+	/**
+	 * Walks the registry by index. If the object we just returned was removed (and so replaced by the last one, or the
+	 * next one if we're ordered), the replacement is returned next.
+	 */
+	private class RegistryIterator implements Iterator<T>
+	{
+		private int cursor = 0;
+
+		private T next = null, last = null;
+
+		public boolean hasNext()
+		{
+			if ( next != null )
+				return true;
+
+			// Our last object was removed; its slot now holds an object we haven't seen.
+			if ( last != null && cursor > 0 && get( cursor - 1 ) != last )
+				cursor--;
+
+			while ( cursor < size )
+			{
+				next = get( cursor++ );
+				if ( next != null && next != last && !next.isRemoved() )
+					return true;
+			}
+			next = null;
+			return false;
+		}
+
+		public T next()
+		{
+			if ( !hasNext() )
+				throw new NoSuchElementException();
+
+			last = next;
+			next = null;
+			return last;
+		}
+
+		public void remove()
+		{
+			if ( last == null )
+				throw new IllegalStateException();
+			EntityRegistry.this.remove( last );
+		}
+	}
+}
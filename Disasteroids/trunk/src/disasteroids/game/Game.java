@@ -13,6 +13,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 
 import disasteroids.Main;
+import disasteroids.Settings;
 import disasteroids.game.levels.Level;
 import disasteroids.game.modes.GameMode;
 import disasteroids.game.objects.Alien;
@@ -26,7 +27,6 @@ import disasteroids.gui.KeystrokeManager;
 import disasteroids.gui.Local;
 import disasteroids.gui.MainMenu;
 import disasteroids.gui.MainWindow;
-import disasteroids.gui.ParticleManager;
 import disasteroids.networking.Client;
 import disasteroids.networking.Constants;
 import disasteroids.networking.Server;
@@ -61,6 +61,20 @@ public class Game
 
 	ObjectManager objectManager;
 
+	/**
+	 * Finds and handles collisions after the objects act.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private CollisionSystem collisionSystem = new CollisionSystem();
+
+	/**
+	 * Pulls objects towards black holes, before the objects act.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private GravitySystem gravitySystem = new GravitySystem();
+
 	private GameMode gameMode;
 
 	/**
@@ -80,6 +94,7 @@ public class Game
 	{
 		Game.instance = this;
 		timeStep = 0;
+		GameLoop.setTickRate( Settings.getGameSpeed() );
 
 		actionManager = new ActionManager();
 		objectManager = new ObjectManager();
@@ -270,7 +285,6 @@ public class Game
 		// Execute game actions.
 		timeStep++;
 		actionManager.act( timeStep );
-		ParticleManager.act();
 
 		// Check if we've lost in singleplayer.
 		if ( !Client.is() && !Local.isStuffNull() && Local.getLocalPlayer().livesLeft() < 0 && Local.getLocalPlayer().getExplosionTime() < 0 )
@@ -280,7 +294,9 @@ public class Game
 			return;
 		}
 
+		gravitySystem.act();
 		objectManager.act();
+		collisionSystem.act();
 	}
 
 	public static void dispose()
@@ -473,6 +489,7 @@ public class Game
 		stream.writeInt( Constants.parseLevel( level ) );
 		level.flatten( stream );
 		stream.writeLong( timeStep );
+		stream.writeInt( GameLoop.getTickRate() );
 		objectManager.flatten( stream );
 		actionManager.flatten( stream );
 		stream.writeBoolean( paused );
@@ -487,6 +504,7 @@ public class Game
 
 		level = Constants.parseLevel( stream.readInt(), stream );
 		this.timeStep = stream.readLong();
+		GameLoop.setTickRate( stream.readInt() );
 		objectManager = new ObjectManager( stream );
 		actionManager = new ActionManager( stream );
 		paused = stream.readBoolean();
@@ -9,6 +9,10 @@ import disasteroids.networking.Client;
 
 /**
  * The thread that runs the game.
+ *
+ * Runs on a fixed timestep: elapsed time is accumulated with <code>System.nanoTime</code>, and the game acts once for
+ * every whole period in the accumulator. If we fall far behind (a slow tick, or the machine hibernating), at most
+ * <code>MAX_CATCH_UP_TICKS</code> are run per wake and the rest are dropped.
  * @author Phillip Cohen
  */
 public class GameLoop extends Thread
@@ -19,15 +23,48 @@ public class GameLoop extends Thread
 	private static GameLoop instance;
 
 	/**
-	 * The time in milliseconds between each action loop.
+	 * The default number of game ticks per second: the speed the game is meant to be played at.
+	 *
+	 * @since October 18, 2026
 	 */
-	private final static int PERIOD = 10;
+	public final static int DEFAULT_TICK_RATE = 100;
+
+	/**
+	 * The most ticks we'll run back-to-back to catch up before giving up on the backlog.
+	 *
+	 * @since October 18, 2026
+	 */
+	private final static int MAX_CATCH_UP_TICKS = 5;
+
+	/**
+	 * The number of game ticks per second. Clients use the server's rate.
+	 *
+	 * Objects move, and timers count down, by a fixed amount each tick, so this sets how fast the game runs; it's not
+	 * just how finely it's simulated.
+	 *
+	 * @since October 18, 2026
+	 */
+	private static int tickRate = DEFAULT_TICK_RATE;
 
 	/**
 	 * Whether the thread is enabled. Always true unless the thread is being destroyed.
 	 */
 	private boolean enabled = true;
 
+	/**
+	 * How long the last tick took, and the longest tick since the statistics were reset, in nanoseconds.
+	 *
+	 * @since October 18, 2026
+	 */
+	private static volatile long lastTickTime = 0, peakTickTime = 0;
+
+	/**
+	 * How many ticks took longer than the period, and how many ticks were dropped because we couldn't catch up.
+	 *
+	 * @since October 18, 2026
+	 */
+	private static volatile long overrunCount = 0, droppedCount = 0;
+
 	public GameLoop()
 	{
 		super( "Game loop thread" );
@@ -62,23 +99,59 @@ public class GameLoop extends Thread
 	}
 
 	/**
-	 * Starts an infinite loop which acts the game, sleeps, and repeats.
-	 * 
-	 * The amount of time to sleep is set by <code>period></code>.
+	 * Starts an infinite loop which acts the game at a fixed rate.
+	 *
+	 * The rate is set by <code>tickRate</code>.
 	 */
 	@Override
 	public void run()
 	{
+		long accumulator = 0;
+		long lastWake = System.nanoTime();
+
 		while ( enabled )
 		{
 			try
 			{
-				if ( shouldRun() )
-					Game.getInstance().act();
+				long period = getPeriod();
+				long now = System.nanoTime();
+				accumulator += now - lastWake;
+				lastWake = now;
 
-				if ( enabled )
-					Thread.sleep( PERIOD );
+				// Run all of the ticks we owe.
+				int ticks = 0;
+				while ( accumulator >= period && ticks < MAX_CATCH_UP_TICKS && enabled )
+				{
+					long tickStart = System.nanoTime();
+					if ( shouldRun() )
+						Game.getInstance().act();
+					recordTick( System.nanoTime() - tickStart, period );
+
+					// Hand the results to the drawing thread (even when paused, so new objects still appear), if there is one.
+					Game game = Game.getInstance();
+					if ( game != null && !Main.isHeadless() )
+						game.getObjectManager().publishSnapshot();
+
+					accumulator -= period;
+					ticks++;
+				}
 
+				// Too far behind; drop the backlog rather than spiral.
+				if ( accumulator >= period )
+				{
+					droppedCount += accumulator / period;
+					accumulator %= period;
+				}
+
+				// Sleep until the next tick is due.
+				if ( enabled )
+				{
+					long sleepTime = period - accumulator - ( System.nanoTime() - lastWake );
+					if ( sleepTime > 0 )
+						Thread.sleep( sleepTime / 1000000, (int) ( sleepTime % 1000000 ) );
+					else
+						Thread.yield();
+				}
 			}
 			catch ( InterruptedException ex )
 			{
@@ -89,6 +162,22 @@ public class GameLoop extends Thread
 		Game.dispose();
 	}
 
+	/**
+	 * Updates the tick statistics.
+	 *
+	 * @param tickTime how long the tick took, in nanoseconds
+	 * @param period the period the tick had to run in, in nanoseconds
+	 * @since October 18, 2026
+	 */
+	private static void recordTick( long tickTime, long period )
+	{
+		lastTickTime = tickTime;
+		if ( tickTime > peakTickTime )
+			peakTickTime = tickTime;
+		if ( tickTime > period )
+			overrunCount++;
+	}
+
 	/**
 	 * Returns whether the game should run in the next step or not.
 	 */
@@ -111,4 +200,88 @@ public class GameLoop extends Thread
 	{
 		return ( instance != null ) && ( instance.isAlive() );
 	}
+
+	/**
+	 * Returns the number of game ticks per second.
+	 *
+	 * @since October 18, 2026
+	 */
+	public static int getTickRate()
+	{
+		return tickRate;
+	}
+
+	/**
+	 * Sets the number of game ticks per second. Takes effect on the next tick.
+	 *
+	 * Since each tick moves everything a fixed step, this changes the game's speed: half the rate plays at half
+	 * speed.
+	 *
+	 * @param rate the new rate; clamped to at least 1
+	 * @since October 18, 2026
+	 */
+	public static void setTickRate( int rate )
+	{
+		tickRate = Math.max( 1, rate );
+	}
+
+	/**
+	 * Returns the time between ticks, in nanoseconds.
+	 *
+	 * @since October 18, 2026
+	 */
+	public static long getPeriod()
+	{
+		return 1000000000L / tickRate;
+	}
+
+	/**
+	 * Returns how long the last tick took, in nanoseconds.
+	 *
+	 * @since October 18, 2026
+	 */
+	public static long getLastTickTime()
+	{
+		return lastTickTime;
+	}
+
+	/**
+	 * Returns the longest tick since the statistics were last reset, in nanoseconds.
+	 *
+	 * @since October 18, 2026
+	 */
+	public static long getPeakTickTime()
+	{
+		return peakTickTime;
+	}
+
+	/**
+	 * Returns how many ticks took longer than the period.
+	 *
+	 * @since October 18, 2026
+	 */
+	public static long getOverrunCount()
+	{
+		return overrunCount;
+	}
+
+	/**
+	 * Returns how many ticks were skipped because we fell too far behind.
+	 *
+	 * @since October 18, 2026
+	 */
+	public static long getDroppedCount()
+	{
+		return droppedCount;
+	}
+
+	/**
+	 * Clears the tick statistics.
+	 *
+	 * @since October 18, 2026
+	 */
+	public static void resetStatistics()
+	{
+		lastTickTime = peakTickTime = overrunCount = droppedCount = 0;
+	}
 }
@@ -0,0 +1,197 @@
+/*
+ * DISASTEROIDS
+ * GravitySystem.java
+ */
+package disasteroids.game;
+
+import disasteroids.Util;
+import disasteroids.game.objects.BlackHole;
+import disasteroids.game.objects.GameObject;
+
+/**
+ * Pulls everything towards the black holes, and lets them eat what reaches their centers.
+ *
+ * Runs once per step, before the objects act. Each black hole finds what's in range through the collision grid, and
+ * its pull is added to a buffer for each victim (indexed like the grid), so an object near several black holes has
+ * its velocity changed once. The falloff (<code>distance ^ -1.7</code>) comes from a table instead of
+ * <code>Math.pow</code>, and directions from the wrapped deltas instead of trigonometry. Nothing is allocated once the
+ * buffers have grown to fit.
+ *
+ * Victims that reach a center are eaten after every pull has been applied, with spawns and removals queued until the
+ * end.
+ *
+ * @author Phillip Cohen
+ * @since October 18, 2026
+ */
+public class GravitySystem
+{
+	/**
+	 * <code>distance ^ -1.7</code>, for each whole distance up to <code>BlackHole.ATTRACTION_RADIUS</code>.
+	 * Interpolated between entries.
+	 */
+	private static final double[] FALLOFF = new double[BlackHole.ATTRACTION_RADIUS + 2];
+
+	static
+	{
+		FALLOFF[0] = Double.POSITIVE_INFINITY;
+		for ( int d = 1; d < FALLOFF.length; d++ )
+			FALLOFF[d] = Math.pow( d, -1.7 );
+	}
+
+	/**
+	 * The pull added to each grid item this step, and whether it's been pulled at all.
+	 */
+	private double[] pullX = new double[128], pullY = new double[128];
+
+	private boolean[] pulled = new boolean[128];
+
+	/**
+	 * The grid items pulled this step, in the order they were first reached.
+	 */
+	private int[] pulledItems = new int[128];
+
+	private int pulledCount = 0;
+
+	/**
+	 * Meals found this step: which black hole, and which grid item.
+	 */
+	private BlackHole[] mealHoles = new BlackHole[16];
+
+	private int[] mealItems = new int[16];
+
+	private int mealCount = 0;
+
+	private final SpatialGrid.Results candidates = new SpatialGrid.Results();
+
+	/**
+	 * Pulls and feeds.
+	 */
+	public void act()
+	{
+		ObjectManager objectManager = Game.getInstance().getObjectManager();
+		EntityRegistry<BlackHole> blackHoles = objectManager.getBlackHoles();
+		if ( blackHoles.isEmpty() )
+			return;
+
+		SpatialGrid grid = objectManager.getCollisionGrid();
+		if ( pulled.length < grid.size() )
+			growBuffers( grid.size() );
+
+		// Add up the pull from each black hole.
+		for ( int h = 0; h < blackHoles.size(); h++ )
+		{
+			BlackHole hole = blackHoles.get( h );
+			if ( hole != null && !hole.isRemoved() )
+				accumulate( grid, hole );
+		}
+
+		// Apply it.
+		for ( int i = 0; i < pulledCount; i++ )
+		{
+			int item = pulledItems[i];
+			GameObject go = grid.getItem( item );
+			go.setVelocity( go.getDx() + pullX[item], go.getDy() + pullY[item] );
+			pullX[item] = pullY[item] = 0;
+			pulled[item] = false;
+		}
+		pulledCount = 0;
+
+		// Feed.
+		objectManager.beginDeferring();
+		try
+		{
+			for ( int i = 0; i < mealCount; i++ )
+			{
+				GameObject go = grid.getItem( mealItems[i] );
+				if ( !mealHoles[i].isRemoved() && !go.isRemoved() && mealHoles[i].isPrey( go ) )
+					mealHoles[i].eat( go );
+				mealHoles[i] = null;
+			}
+			mealCount = 0;
+		}
+		finally
+		{
+			objectManager.endDeferring();
+		}
+	}
+
+	/**
+	 * Adds one black hole's pull to everything in its range, and notes what's close enough to eat.
+	 */
+	private void accumulate( SpatialGrid grid, BlackHole hole )
+	{
+		double strength = hole.getStrength(), power = hole.getPower();
+		grid.query( hole.getX(), hole.getY(), BlackHole.ATTRACTION_RADIUS, ObjectManager.QUERY_ALL, candidates );
+
+		for ( int c = 0; c < candidates.size(); c++ )
+		{
+			GameObject go = candidates.getObject( c );
+			if ( !hole.isPrey( go ) )
+				continue;
+
+			// Point from the victim to the hole.
+			double deltaX = Util.getDeltaX( hole, go ), deltaY = Util.getDeltaY( hole, go );
+			double distanceSquared = deltaX * deltaX + deltaY * deltaY;
+			if ( distanceSquared >= BlackHole.ATTRACTION_RADIUS * BlackHole.ATTRACTION_RADIUS )
+				continue;
+			double distance = Math.sqrt( distanceSquared );
+
+			int item = candidates.getIndex( c );
+			if ( distance > 0 )
+			{
+				double magnitude = strength * Math.min( power * getFalloff( distance ), 1 ) / distance;
+				if ( !pulled[item] )
+				{
+					pulled[item] = true;
+					pulledItems[pulledCount++] = item;
+				}
+				pullX[item] += magnitude * deltaX;
+				pullY[item] += magnitude * deltaY;
+			}
+
+			// Too close to the center! Destroy him!
+			if ( distance < BlackHole.EATING_RADIUS )
+				addMeal( hole, item );
+		}
+	}
+
+	/**
+	 * Returns <code>distance ^ -1.7</code>, interpolated from the table.
+	 */
+	private static double getFalloff( double distance )
+	{
+		if ( distance < 1 )
+			return FALLOFF[1] / distance;
+
+		int whole = (int) distance;
+		if ( whole >= FALLOFF.length - 1 )
+			return FALLOFF[FALLOFF.length - 1];
+		double fraction = distance - whole;
+		return FALLOFF[whole] + ( FALLOFF[whole + 1] - FALLOFF[whole] ) * fraction;
+	}
+
+	private void addMeal( BlackHole hole, int item )
+	{
+		if ( mealCount == mealItems.length )
+		{
+			BlackHole[] newHoles = new BlackHole[mealCount * 2];
+			int[] newItems = new int[mealCount * 2];
+			System.arraycopy( mealHoles, 0, newHoles, 0, mealCount );
+			System.arraycopy( mealItems, 0, newItems, 0, mealCount );
+			mealHoles = newHoles;
+			mealItems = newItems;
+		}
+		mealHoles[mealCount] = hole;
+		mealItems[mealCount] = item;
+		mealCount++;
+	}
+
+	private void growBuffers( int size )
+	{
+		int capacity = Math.max( size, pulled.length * 2 );
+		pullX = new double[capacity];
+		pullY = new double[capacity];
+		pulled = new boolean[capacity];
+		pulledItems = new int[capacity];
+	}
+}
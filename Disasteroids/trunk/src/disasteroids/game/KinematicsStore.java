@@ -0,0 +1,251 @@
+/*
+ * DISASTEROIDS
+ * KinematicsStore.java
+ */
+package disasteroids.game;
+
+/**
+ * Holds the position and velocity of every object in the <code>ObjectManager</code>, in flat arrays indexed by slot.
+ * <code>GameObject</code>'s getters and setters read and write these arrays once the object is added to the game.
+ *
+ * Objects that just drift (asteroids, bonuses) are moved all at once by <code>integrate</code>, in one tight loop over
+ * the arrays, instead of each calling <code>move()</code>.
+ *
+ * Objects find their slot through a <code>Handle</code>, which they swap atomically, so other threads (the renderer,
+ * the network) never see a store without a slot. The arrays are republished through volatile fields when they grow,
+ * and released slots aren't reused until the next <code>integrate</code>, so a reader that picked up a handle just
+ * before its object was removed still reads that object's last position, not someone else's.
+ *
+ * @author Phillip Cohen
+ * @since October 18, 2026
+ */
+public class KinematicsStore
+{
+	/**
+	 * Position and velocity, by slot.
+	 */
+	private volatile double[] x, y, dx, dy;
+
+	/**
+	 * Whether each slot is moved by <code>integrate</code>.
+	 */
+	private boolean[] integrated;
+
+	/**
+	 * Whether each slot is in use.
+	 */
+	private boolean[] used;
+
+	/**
+	 * Slots that have been released, to be reused before we grow.
+	 */
+	private int[] freeSlots;
+
+	private int freeCount = 0;
+
+	/**
+	 * Slots released since the last <code>integrate</code>. They're only made free then.
+	 */
+	private int[] pendingSlots;
+
+	private int pendingCount = 0;
+
+	/**
+	 * One past the highest slot ever handed out.
+	 */
+	private int slotCount = 0;
+
+	public KinematicsStore( int capacity )
+	{
+		x = new double[capacity];
+		y = new double[capacity];
+		dx = new double[capacity];
+		dy = new double[capacity];
+		integrated = new boolean[capacity];
+		used = new boolean[capacity];
+		freeSlots = new int[capacity];
+		pendingSlots = new int[capacity];
+	}
+
+	/**
+	 * Reserves a slot and fills it in.
+	 *
+	 * @param integrate whether <code>integrate</code> should move this slot
+	 * @return the handle to the slot
+	 */
+	public synchronized Handle allocate( double x, double y, double dx, double dy, boolean integrate )
+	{
+		int slot;
+		if ( freeCount > 0 )
+			slot = freeSlots[--freeCount];
+		else
+		{
+			if ( slotCount == used.length )
+				grow();
+			slot = slotCount++;
+		}
+
+		this.x[slot] = x;
+		this.y[slot] = y;
+		this.dx[slot] = dx;
+		this.dy[slot] = dy;
+		integrated[slot] = integrate;
+		used[slot] = true;
+		return new Handle( this, slot );
+	}
+
+	/**
+	 * Frees a slot for reuse, from the next <code>integrate</code> on.
+	 */
+	public synchronized void release( int slot )
+	{
+		if ( !used[slot] )
+			return;
+
+		used[slot] = false;
+		integrated[slot] = false;
+		pendingSlots[pendingCount++] = slot;
+	}
+
+	public synchronized void clear()
+	{
+		for ( int i = 0; i < slotCount; i++ )
+			used[i] = integrated[i] = false;
+		slotCount = freeCount = pendingCount = 0;
+	}
+
+	/**
+	 * Moves every integrated slot by its velocity, wrapping around the world.
+	 *
+	 * @param width the world's width
+	 * @param height the world's height
+	 */
+	public synchronized void integrate( double width, double height )
+	{
+		// Slots released last step can be reused now.
+		System.arraycopy( pendingSlots, 0, freeSlots, freeCount, pendingCount );
+		freeCount += pendingCount;
+		pendingCount = 0;
+
+		double[] x = this.x, y = this.y, dx = this.dx, dy = this.dy;
+		boolean[] integrated = this.integrated;
+		for ( int i = 0; i < slotCount; i++ )
+		{
+			if ( !integrated[i] )
+				continue;
+
+			double newX = x[i] + dx[i];
+			if ( newX >= width )
+				newX -= width;
+			else if ( newX < 0 )
+				newX += width;
+			x[i] = newX;
+
+			double newY = y[i] + dy[i];
+			if ( newY >= height )
+				newY -= height;
+			else if ( newY < 0 )
+				newY += height;
+			y[i] = newY;
+		}
+	}
+
+	private void grow()
+	{
+		int capacity = used.length * 2;
+		x = copy( x, capacity );
+		y = copy( y, capacity );
+		dx = copy( dx, capacity );
+		dy = copy( dy, capacity );
+
+		boolean[] newIntegrated = new boolean[capacity], newUsed = new boolean[capacity];
+		System.arraycopy( integrated, 0, newIntegrated, 0, slotCount );
+		System.arraycopy( used, 0, newUsed, 0, slotCount );
+		integrated = newIntegrated;
+		used = newUsed;
+
+		int[] newFree = new int[capacity], newPending = new int[capacity];
+		System.arraycopy( freeSlots, 0, newFree, 0, freeCount );
+		System.arraycopy( pendingSlots, 0, newPending, 0, pendingCount );
+		freeSlots = newFree;
+		pendingSlots = newPending;
+	}
+
+	private static double[] copy( double[] array, int capacity )
+	{
+		double[] copy = new double[capacity];
+		System.arraycopy( array, 0, copy, 0, array.length );
+		return copy;
+	}
+
+	/**
+	 * Wraps a coordinate into <code>[0, size)</code>. Cheap when it's at most one world away, as it almost always is.
+	 */
+	public static double wrap( double value, double size )
+	{
+		if ( value >= size )
+			value -= size;
+		else if ( value < 0 )
+			value += size;
+
+		if ( value < 0 || value >= size )
+			value = ( value % size + size ) % size;
+		return value;
+	}
+
+	public double getX( int slot )
+	{
+		return x[slot];
+	}
+
+	public double getY( int slot )
+	{
+		return y[slot];
+	}
+
+	public double getDx( int slot )
+	{
+		return dx[slot];
+	}
+
+	public double getDy( int slot )
+	{
+		return dy[slot];
+	}
+
+	public void setX( int slot, double value )
+	{
+		x[slot] = value;
+	}
+
+	public void setY( int slot, double value )
+	{
+		y[slot] = value;
+	}
+
+	public void setDx( int slot, double value )
+	{
+		dx[slot] = value;
+	}
+
+	public void setDy( int slot, double value )
+	{
+		dy[slot] = value;
+	}
+
+	/**
+	 * An object's slot in a store. Immutable, so it can be read from any thread in one go.
+	 */
+	public static final class Handle
+	{
+		public final KinematicsStore store;
+
+		public final int slot;
+
+		private Handle( KinematicsStore store, int slot )
+		{
+			this.store = store;
+			this.slot = slot;
+		}
+	}
+}
@@ -0,0 +1,272 @@
+/*
+ * DISASTEROIDS
+ * LongObjectMap.java
+ */
+package disasteroids.game;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A map from primitive <code>long</code>s to objects, used for looking up game objects by ID without boxing.
+ *
+ * Values are kept in a dense array in insertion order, so they can be iterated directly with <code>valueAt</code>.
+ * Keys are found through an open-addressing (linear probing) index into that array. Removing a value leaves a hole
+ * (a <code>null</code>) in the dense array, so slots don't move while someone is iterating; call <code>compact</code>
+ * when nobody is.
+ *
+ * Writes and lookups are synchronized. <code>valueAt</code> is not, so the thread that calls <code>compact</code> may
+ * iterate freely, as long as it skips <code>null</code>s. Other threads (like the network thread) should take a
+ * consistent copy with <code>copyValues</code> instead, since slots may move under them.
+ *
+ * @author Phillip Cohen
+ * @since October 18, 2026
+ */
+public class LongObjectMap<V>
+{
+	/**
+	 * Marks an empty bucket in <code>bucketSlots</code>.
+	 */
+	private static final int EMPTY = -1;
+
+	/**
+	 * The open-addressing table: the key in each bucket, and the dense slot it points to (or <code>EMPTY</code>).
+	 */
+	private long[] bucketKeys;
+
+	private int[] bucketSlots;
+
+	/**
+	 * The dense arrays of keys and values, in insertion order. May contain holes.
+	 */
+	private long[] slotKeys;
+
+	private volatile Object[] slotValues;
+
+	/**
+	 * How many slots are in use (including holes), and how many of those hold values.
+	 */
+	private volatile int slotCount = 0;
+
+	private int size = 0;
+
+	public LongObjectMap( int expectedSize )
+	{
+		int buckets = 16;
+		while ( buckets < expectedSize * 2 )
+			buckets <<= 1;
+
+		bucketKeys = new long[buckets];
+		bucketSlots = new int[buckets];
+		Arrays.fill( bucketSlots, EMPTY );
+		slotKeys = new long[Math.max( expectedSize, 8 )];
+		slotValues = new Object[slotKeys.length];
+	}
+
+	/**
+	 * Returns the value mapped to <code>key</code>, or <code>null</code> if there isn't one.
+	 */
+	@SuppressWarnings( "unchecked" )
+	public synchronized V get( long key )
+	{
+		int bucket = findBucket( key );
+		return bucketSlots[bucket] == EMPTY ? null : (V) slotValues[bucketSlots[bucket]];
+	}
+
+	public synchronized boolean containsKey( long key )
+	{
+		return bucketSlots[findBucket( key )] != EMPTY;
+	}
+
+	/**
+	 * Maps <code>key</code> to <code>value</code>, replacing (in place) any existing value.
+	 *
+	 * @return the previous value, or <code>null</code>
+	 */
+	@SuppressWarnings( "unchecked" )
+	public synchronized V put( long key, V value )
+	{
+		int bucket = findBucket( key );
+		if ( bucketSlots[bucket] != EMPTY )
+		{
+			V old = (V) slotValues[bucketSlots[bucket]];
+			slotValues[bucketSlots[bucket]] = value;
+			return old;
+		}
+
+		// Append to the dense arrays.
+		if ( slotCount == slotKeys.length )
+		{
+			long[] newKeys = new long[slotKeys.length * 2];
+			Object[] newValues = new Object[newKeys.length];
+			System.arraycopy( slotKeys, 0, newKeys, 0, slotCount );
+			System.arraycopy( slotValues, 0, newValues, 0, slotCount );
+			slotKeys = newKeys;
+			slotValues = newValues;
+		}
+		slotKeys[slotCount] = key;
+		slotValues[slotCount] = value;
+		bucketKeys[bucket] = key;
+		bucketSlots[bucket] = slotCount;
+		slotCount++;
+		size++;
+
+		// Keep the table at most half full.
+		if ( size * 2 > bucketKeys.length )
+			rehash( bucketKeys.length * 2 );
+		return null;
+	}
+
+	/**
+	 * Removes the value mapped to <code>key</code>, leaving a hole in its slot.
+	 *
+	 * @return the removed value, or <code>null</code>
+	 */
+	@SuppressWarnings( "unchecked" )
+	public synchronized V remove( long key )
+	{
+		int bucket = findBucket( key );
+		int slot = bucketSlots[bucket];
+		if ( slot == EMPTY )
+			return null;
+
+		V old = (V) slotValues[slot];
+		slotValues[slot] = null;
+		size--;
+		deleteBucket( bucket );
+		return old;
+	}
+
+	public synchronized void clear()
+	{
+		Arrays.fill( bucketSlots, EMPTY );
+		Arrays.fill( slotValues, 0, slotCount, null );
+		slotCount = 0;
+		size = 0;
+	}
+
+	/**
+	 * Closes the holes left by <code>remove</code>. Slots will move, so don't call this while iterating.
+	 */
+	public synchronized void compact()
+	{
+		if ( size == slotCount )
+			return;
+
+		int to = 0;
+		for ( int from = 0; from < slotCount; from++ )
+		{
+			if ( slotValues[from] == null )
+				continue;
+			if ( from != to )
+			{
+				slotKeys[to] = slotKeys[from];
+				slotValues[to] = slotValues[from];
+				bucketSlots[findBucket( slotKeys[to] )] = to;
+			}
+			to++;
+		}
+		Arrays.fill( slotValues, to, slotCount, null );
+		slotCount = to;
+	}
+
+	/**
+	 * Adds every value to <code>into</code>, in slot order. Holds the map's lock throughout, so a <code>compact</code>
+	 * on another thread can't move values while we copy: each is added exactly once.
+	 */
+	@SuppressWarnings( "unchecked" )
+	public synchronized void copyValues( Collection<? super V> into )
+	{
+		for ( int slot = 0; slot < slotCount; slot++ )
+		{
+			if ( slotValues[slot] != null )
+				into.add( (V) slotValues[slot] );
+		}
+	}
+
+	/**
+	 * Returns the number of values in the map.
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns the number of slots to iterate over with <code>valueAt</code>. Some may be holes.
+	 */
+	public int getSlotCount()
+	{
+		return slotCount;
+	}
+
+	/**
+	 * Returns the value in the given dense slot, or <code>null</code> if it's a hole or out of range.
+	 */
+	@SuppressWarnings( "unchecked" )
+	public V valueAt( int slot )
+	{
+		Object[] values = slotValues;
+		return slot < values.length ? (V) values[slot] : null;
+	}
+
+	/**
+	 * Returns the bucket holding <code>key</code>, or the empty bucket where it would go.
+	 */
+	private int findBucket( long key )
+	{
+		int mask = bucketKeys.length - 1;
+		int bucket = hash( key ) & mask;
+		while ( bucketSlots[bucket] != EMPTY && bucketKeys[bucket] != key )
+			bucket = ( bucket + 1 ) & mask;
+		return bucket;
+	}
+
+	/**
+	 * Empties a bucket, shifting later entries of the probe chain back so lookups still find them.
+	 */
+	private void deleteBucket( int bucket )
+	{
+		int mask = bucketKeys.length - 1;
+		int hole = bucket;
+		int next = ( hole + 1 ) & mask;
+		while ( bucketSlots[next] != EMPTY )
+		{
+			int home = hash( bucketKeys[next] ) & mask;
+
+			// Move the entry back if the hole lies between its home bucket and where it is now.
+			if ( ( ( next - home ) & mask ) >= ( ( next - hole ) & mask ) )
+			{
+				bucketKeys[hole] = bucketKeys[next];
+				bucketSlots[hole] = bucketSlots[next];
+				hole = next;
+			}
+			next = ( next + 1 ) & mask;
+		}
+		bucketSlots[hole] = EMPTY;
+	}
+
+	private void rehash( int buckets )
+	{
+		bucketKeys = new long[buckets];
+		bucketSlots = new int[buckets];
+		Arrays.fill( bucketSlots, EMPTY );
+		for ( int slot = 0; slot < slotCount; slot++ )
+		{
+			if ( slotValues[slot] == null )
+				continue;
+			int bucket = findBucket( slotKeys[slot] );
+			bucketKeys[bucket] = slotKeys[slot];
+			bucketSlots[bucket] = slot;
+		}
+	}
+
+	/**
+	 * Spreads sequential IDs across the table (Fibonacci hashing).
+	 */
+	private static int hash( long key )
+	{
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) ( h ^ ( h >>> 32 ) );
+	}
+}
@@ -8,11 +8,12 @@ import java.awt.Graphics;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 
 import disasteroids.Main;
+import disasteroids.Util;
 import disasteroids.game.objects.Alien;
 import disasteroids.game.objects.Asteroid;
 import disasteroids.game.objects.BlackHole;
@@ -22,6 +23,8 @@ import disasteroids.game.objects.GameObject;
 import disasteroids.game.objects.Ship;
 import disasteroids.game.objects.ShootingObject;
 import disasteroids.game.objects.Station;
+import disasteroids.game.weapons.Unit;
+import disasteroids.game.weapons.Weapon;
 import disasteroids.networking.Client;
 import disasteroids.networking.Constants;
 import disasteroids.networking.Server;
@@ -35,19 +38,66 @@ import disasteroids.networking.ServerCommands;
 public class ObjectManager implements GameElement
 {
 	/**
-	 * The mother map of all game objects. Objects are mapped to their IDs.
+	 * The mother map of all game objects. Objects are mapped to their IDs, and can be iterated over with
+	 * <code>getObjectAt</code>.
 	 */
-	private ConcurrentHashMap<Long, GameObject> gameObjects = new ConcurrentHashMap<Long, GameObject>( 500 );
+	private LongObjectMap<GameObject> gameObjects = new LongObjectMap<GameObject>( 500 );
 
-	private ConcurrentLinkedQueue<Asteroid> asteroids = new ConcurrentLinkedQueue<Asteroid>();
+	/**
+	 * The positions and velocities of every object in <code>gameObjects</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private KinematicsStore kinematics = new KinematicsStore( 512 );
+
+	/**
+	 * Where every object and unit was at the start of this step, for finding collisions.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private SpatialGrid collisionGrid = null;
+
+	/**
+	 * Where everything was at the end of the last two ticks, for the drawing thread.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private final RenderSnapshot renderSnapshot = new RenderSnapshot();
+
+	// ***************************************************** Registries **
+
+	/**
+	 * Indices of the type registries. Each object knows its slot in each one, so removal is constant-time.
+	 * 
+	 * @see EntityRegistry
+	 * @since October 18, 2026
+	 */
+	public static final int REGISTRY_ASTEROIDS = 0, REGISTRY_BONUSES = 1, REGISTRY_BLACKHOLES = 2, REGISTRY_PLAYERS = 3, REGISTRY_SHOOTINGOBJECTS = 4, REGISTRY_BADDIES = 5;
 
-	private ConcurrentLinkedQueue<Bonus> bonuses = new ConcurrentLinkedQueue<Bonus>();
+	public static final int REGISTRY_COUNT = 6;
 
-	private ConcurrentLinkedQueue<BlackHole> blackHoles = new ConcurrentLinkedQueue<BlackHole>();
+	private EntityRegistry<Asteroid> asteroids = new EntityRegistry<Asteroid>( REGISTRY_ASTEROIDS );
 
-	private ConcurrentLinkedQueue<Ship> players = new ConcurrentLinkedQueue<Ship>();
+	private EntityRegistry<Bonus> bonuses = new EntityRegistry<Bonus>( REGISTRY_BONUSES );
 
-	private ConcurrentLinkedQueue<ShootingObject> shootingObjects = new ConcurrentLinkedQueue<ShootingObject>();
+	private EntityRegistry<BlackHole> blackHoles = new EntityRegistry<BlackHole>( REGISTRY_BLACKHOLES );
+
+	/**
+	 * The players, in the order they joined. Kept in order because the first player is special: the wave spawns
+	 * opposite them, and the scoreboard starts from them.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private EntityRegistry<Ship> players = new EntityRegistry<Ship>( REGISTRY_PLAYERS, true );
+
+	private EntityRegistry<ShootingObject> shootingObjects = new EntityRegistry<ShootingObject>( REGISTRY_SHOOTINGOBJECTS );
+
+	/**
+	 * Which registries each class belongs in, as a bitmask of <code>1 &lt;&lt; REGISTRY_*</code>. Worked out once per class.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static HashMap<Class<?>, Integer> registryMasks = new HashMap<Class<?>, Integer>();
 
 	/**
 	 * The next ID we can give to an object.
@@ -62,32 +112,188 @@ public class ObjectManager implements GameElement
 	/**
 	 * Reference list all of living objects on the level that the player must destroy (aliens, stations, and so on).
 	 */
-	private ConcurrentLinkedQueue<GameObject> baddies = new ConcurrentLinkedQueue<GameObject>();
+	private EntityRegistry<GameObject> baddies = new EntityRegistry<GameObject>( REGISTRY_BADDIES );
+
+	// ***************************************************** Deferred changes **
+
+	/**
+	 * The thread that's currently running <code>act</code>, or <code>null</code>. Objects it adds or removes are
+	 * queued until the step is over.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private Thread actingThread = null;
+
+	/**
+	 * Objects added or removed during this step, in the order it happened, and whether each was an addition.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private GameObject[] changedObjects = new GameObject[64];
+
+	private boolean[] changeIsAddition = new boolean[64];
+
+	private int changeCount = 0;
 
 	public ObjectManager()
 	{
 	}
 
+	/**
+	 * Moves the objects that drift, then acts every object. Objects spawned or removed while this runs are queued, and
+	 * applied (in order) once every object has acted.
+	 */
 	public void act()
 	{
-		for ( long id : gameObjects.keySet() )
-			if ( gameObjects.get( id ) != null )
-				gameObjects.get( id ).act();
+		kinematics.integrate( Game.getInstance().GAME_WIDTH, Game.getInstance().GAME_HEIGHT );
+
+		beginDeferring();
+		try
+		{
+			for ( int i = 0; i < gameObjects.getSlotCount(); i++ )
+			{
+				GameObject go = gameObjects.valueAt( i );
+				if ( go != null && !go.isRemoved() )
+					go.act();
+			}
+		}
+		finally
+		{
+			endDeferring();
+		}
 	}
 
-	public void draw( Graphics g )
+	/**
+	 * Starts queueing additions and removals made by this thread, as <code>act</code> does. Used by the
+	 * <code>CollisionSystem</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	void beginDeferring()
+	{
+		actingThread = Thread.currentThread();
+	}
+
+	/**
+	 * Stops queueing, and applies everything that was queued.
+	 * 
+	 * @since October 18, 2026
+	 */
+	void endDeferring()
+	{
+		actingThread = null;
+		applyChanges();
+
+		// Close the gaps left by objects that died this step.
+		gameObjects.compact();
+	}
+
+	/**
+	 * Puts every object, and every unit they've fired, into the collision grid.
+	 * 
+	 * @since October 18, 2026
+	 */
+	void rebuildCollisionGrid()
 	{
-		for ( long id : gameObjects.keySet() )
+		if ( collisionGrid == null )
+			collisionGrid = new SpatialGrid( Game.getInstance().GAME_WIDTH, Game.getInstance().GAME_HEIGHT, 125 );
+		else
+			collisionGrid.clear();
+
+		for ( int i = 0; i < gameObjects.getSlotCount(); i++ )
 		{
-			if ( !GameLoop.isRunning() )
-				return;
+			GameObject go = gameObjects.valueAt( i );
+			if ( go == null || go.isRemoved() )
+				continue;
+
+			collisionGrid.insert( go, null, getRegistryMask( go ) );
+			if ( go instanceof ShootingObject )
+			{
+				ShootingObject so = (ShootingObject) go;
+				for ( Weapon wm : so.getWeapons() )
+				{
+					for ( Unit u : wm.getUnits() )
+						collisionGrid.insert( u, so, QUERY_UNITS );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether additions and removals should be queued instead of applied.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private boolean isDeferring()
+	{
+		return actingThread == Thread.currentThread();
+	}
+
+	/**
+	 * Queues an addition or removal for the end of the step.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private void queueChange( GameObject go, boolean addition )
+	{
+		if ( changeCount == changedObjects.length )
+		{
+			GameObject[] newObjects = new GameObject[changeCount * 2];
+			boolean[] newIsAddition = new boolean[changeCount * 2];
+			System.arraycopy( changedObjects, 0, newObjects, 0, changeCount );
+			System.arraycopy( changeIsAddition, 0, newIsAddition, 0, changeCount );
+			changedObjects = newObjects;
+			changeIsAddition = newIsAddition;
+		}
+		changedObjects[changeCount] = go;
+		changeIsAddition[changeCount] = addition;
+		changeCount++;
+	}
 
-			if ( gameObjects.get( id ) != null && gameObjects.get( id ) instanceof BlackHole == false )
-				gameObjects.get( id ).draw( g );
+	/**
+	 * Applies every queued addition and removal, in the order they happened.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private void applyChanges()
+	{
+		for ( int i = 0; i < changeCount; i++ )
+		{
+			if ( changeIsAddition[i] )
+				registerObject( changedObjects[i] );
+			else
+				unregisterObject( changedObjects[i] );
+			changedObjects[i] = null;
 		}
+		changeCount = 0;
+	}
 
-		for ( BlackHole b : blackHoles )
-			b.draw( g );
+	/**
+	 * Draws everything in the last published snapshot. Call <code>getRenderSnapshot().beginFrame()</code> first.
+	 */
+	public void draw( Graphics g )
+	{
+		renderSnapshot.draw( g );
+	}
+
+	/**
+	 * Publishes where everything is now to the drawing thread. Called by the game loop after each tick.
+	 * 
+	 * @since October 18, 2026
+	 */
+	void publishSnapshot()
+	{
+		renderSnapshot.publish( gameObjects );
+	}
+
+	/**
+	 * Returns what the drawing thread draws from.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public RenderSnapshot getRenderSnapshot()
+	{
+		return renderSnapshot;
 	}
 
 	public long getNewId()
@@ -117,40 +323,124 @@ public class ObjectManager implements GameElement
 					return;
 			}
 		}
+
+		go.setRemoved( false );
+		if ( isDeferring() )
+			queueChange( go, true );
+		else
+			registerObject( go );
+	}
+
+	/**
+	 * Removes the object from the game. If we're in the middle of <code>act</code>, it stays in the lists (but is
+	 * marked as removed) until the step is over.
+	 */
+	public void removeObject( GameObject go )
+	{
+		go.setRemoved( true );
+		if ( isDeferring() )
+			queueChange( go, false );
+		else
+			unregisterObject( go );
+	}
+
+	/**
+	 * Puts the object in the map and its registries.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private void registerObject( GameObject go )
+	{
 		gameObjects.put( go.getId(), go );
-		if ( go instanceof Alien || go instanceof Station )
+		go.attachKinematics( kinematics );
+
+		int mask = getRegistryMask( go );
+		if ( ( mask & ( 1 << REGISTRY_BADDIES ) ) != 0 )
 			baddies.add( go );
-		if ( go instanceof Asteroid )
+		if ( ( mask & ( 1 << REGISTRY_ASTEROIDS ) ) != 0 )
 			asteroids.add( (Asteroid) go );
-		if ( go instanceof Bonus )
+		if ( ( mask & ( 1 << REGISTRY_BONUSES ) ) != 0 )
 			bonuses.add( (Bonus) go );
-		if ( go instanceof BlackHole )
+		if ( ( mask & ( 1 << REGISTRY_BLACKHOLES ) ) != 0 )
 			blackHoles.add( (BlackHole) go );
-		if ( go instanceof ShootingObject )
+		if ( ( mask & ( 1 << REGISTRY_SHOOTINGOBJECTS ) ) != 0 )
 			shootingObjects.add( (ShootingObject) go );
-		if ( go instanceof Ship )
+		if ( ( mask & ( 1 << REGISTRY_PLAYERS ) ) != 0 )
 			players.add( (Ship) go );
 	}
 
-	public void removeObject( GameObject go )
+	/**
+	 * Takes the object out of the map and its registries.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private void unregisterObject( GameObject go )
 	{
-		gameObjects.remove( go.getId() );
-		if ( go instanceof Alien || go instanceof Station )
+		if ( gameObjects.get( go.getId() ) == go )
+			gameObjects.remove( go.getId() );
+		go.detachKinematics();
+
+		int mask = getRegistryMask( go );
+		if ( ( mask & ( 1 << REGISTRY_BADDIES ) ) != 0 )
 			baddies.remove( go );
-		if ( go instanceof Asteroid )
+		if ( ( mask & ( 1 << REGISTRY_ASTEROIDS ) ) != 0 )
 			asteroids.remove( go );
-		if ( go instanceof Bonus )
+		if ( ( mask & ( 1 << REGISTRY_BONUSES ) ) != 0 )
 			bonuses.remove( go );
-		if ( go instanceof BlackHole )
+		if ( ( mask & ( 1 << REGISTRY_BLACKHOLES ) ) != 0 )
 			blackHoles.remove( go );
-		if ( go instanceof ShootingObject )
+		if ( ( mask & ( 1 << REGISTRY_SHOOTINGOBJECTS ) ) != 0 )
 			shootingObjects.remove( go );
-		if ( go instanceof Ship )
+		if ( ( mask & ( 1 << REGISTRY_PLAYERS ) ) != 0 )
 			players.remove( go );
 	}
 
+	/**
+	 * Returns which registries objects of this class belong in, as a bitmask of <code>1 &lt;&lt; REGISTRY_*</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static int getRegistryMask( GameObject go )
+	{
+		synchronized ( registryMasks )
+		{
+			Integer mask = registryMasks.get( go.getClass() );
+			if ( mask == null )
+			{
+				int m = 0;
+				if ( go instanceof Alien || go instanceof Station )
+					m |= 1 << REGISTRY_BADDIES;
+				if ( go instanceof Asteroid )
+					m |= 1 << REGISTRY_ASTEROIDS;
+				if ( go instanceof Bonus )
+					m |= 1 << REGISTRY_BONUSES;
+				if ( go instanceof BlackHole )
+					m |= 1 << REGISTRY_BLACKHOLES;
+				if ( go instanceof ShootingObject )
+					m |= 1 << REGISTRY_SHOOTINGOBJECTS;
+				if ( go instanceof Ship )
+					m |= 1 << REGISTRY_PLAYERS;
+				mask = m;
+				registryMasks.put( go.getClass(), mask );
+			}
+			return mask;
+		}
+	}
+
 	public void clear()
 	{
+		if ( collisionGrid != null )
+			collisionGrid.clear();
+		for ( int i = 0; i < changeCount; i++ )
+			changedObjects[i] = null;
+		changeCount = 0;
+		for ( int i = 0; i < gameObjects.getSlotCount(); i++ )
+		{
+			GameObject go = gameObjects.valueAt( i );
+			if ( go != null )
+				go.detachKinematics();
+		}
+		kinematics.clear();
 		gameObjects.clear();
 		asteroids.clear();
 		bonuses.clear();
@@ -165,11 +455,21 @@ public class ObjectManager implements GameElement
 	 */
 	public void flatten( DataOutputStream stream ) throws IOException
 	{
-		stream.writeInt( gameObjects.size() );
-		for ( long id : gameObjects.keySet() )
+		// Copy the objects first, so the count we write matches even if the game is running. We're on the network
+		// thread, so take the copy under the map's lock: the game thread may compact it at any time.
+		ArrayList<GameObject> objects = new ArrayList<GameObject>( gameObjects.size() );
+		gameObjects.copyValues( objects );
+		for ( Iterator<GameObject> it = objects.iterator(); it.hasNext(); )
+		{
+			if ( it.next().isRemoved() )
+				it.remove();
+		}
+
+		stream.writeInt( objects.size() );
+		for ( GameObject go : objects )
 		{
-			stream.writeInt( Constants.parseGameObject( gameObjects.get( id ) ) );
-			gameObjects.get( id ).flatten( stream );
+			stream.writeInt( Constants.parseGameObject( go ) );
+			go.flatten( stream );
 		}
 	}
 
@@ -214,44 +514,227 @@ public class ObjectManager implements GameElement
 
 	public void clearObstacles()
 	{
-		for ( long id : gameObjects.keySet() )
+		for ( int i = 0; i < gameObjects.getSlotCount(); i++ )
 		{
-			if ( gameObjects.get( id ) instanceof Alien || gameObjects.get( id ) instanceof BlackHole || gameObjects.get( id ) instanceof Asteroid || gameObjects.get( id ) instanceof Bonus || gameObjects.get( id ) instanceof Station )
-				removeObject( gameObjects.get( id ) );
+			GameObject go = gameObjects.valueAt( i );
+			if ( go instanceof Alien || go instanceof BlackHole || go instanceof Asteroid || go instanceof Bonus || go instanceof Station )
+				removeObject( go );
 		}
 	}
 
-	public ConcurrentLinkedQueue<Asteroid> getAsteroids()
+	public EntityRegistry<Asteroid> getAsteroids()
 	{
 		return asteroids;
 	}
 
-	public ConcurrentLinkedQueue<Bonus> getBonuses()
+	public EntityRegistry<Bonus> getBonuses()
 	{
 		return bonuses;
 	}
 
-	public ConcurrentLinkedQueue<GameObject> getBaddies()
+	public EntityRegistry<GameObject> getBaddies()
 	{
 		return baddies;
 	}
 
-	public ConcurrentLinkedQueue<BlackHole> getBlackHoles()
+	public EntityRegistry<BlackHole> getBlackHoles()
 	{
 		return blackHoles;
 	}
 
-	public Set<Long> getAllIds()
+	/**
+	 * Returns the number of slots to iterate over with <code>getObjectAt</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public int getObjectSlotCount()
+	{
+		return gameObjects.getSlotCount();
+	}
+
+	/**
+	 * Returns the object in the given slot, or <code>null</code> if the slot is empty (or its object has been removed
+	 * this step). Loop over every object with
+	 * <code>for ( int i = 0; i &lt; getObjectSlotCount(); i++ )</code>, skipping <code>null</code>s.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public GameObject getObjectAt( int slot )
 	{
-		return gameObjects.keySet();
+		GameObject go = gameObjects.valueAt( slot );
+		return ( go == null || go.isRemoved() ) ? null : go;
+	}
+
+	/**
+	 * Returns the grid of where everything was when collisions were last found (building it, if this is the first
+	 * step). Only valid on the game thread.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public SpatialGrid getCollisionGrid()
+	{
+		if ( collisionGrid == null )
+			rebuildCollisionGrid();
+		return collisionGrid;
+	}
+
+	// ***************************************************** Range queries **
+
+	/**
+	 * Type masks for <code>queryRadius</code> and <code>nearest</code>. Objects match the masks of the registries
+	 * they're in (so stations and aliens are <code>QUERY_BADDIES</code>); units fired by weapons match
+	 * <code>QUERY_UNITS</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public static final int QUERY_ASTEROIDS = 1 << REGISTRY_ASTEROIDS, QUERY_BONUSES = 1 << REGISTRY_BONUSES, QUERY_BLACKHOLES = 1 << REGISTRY_BLACKHOLES, QUERY_PLAYERS = 1 << REGISTRY_PLAYERS,
+			QUERY_SHOOTINGOBJECTS = 1 << REGISTRY_SHOOTINGOBJECTS, QUERY_BADDIES = 1 << REGISTRY_BADDIES, QUERY_UNITS = 1 << REGISTRY_COUNT, QUERY_ALL = -1;
+
+	/**
+	 * Receives the objects found by <code>queryRadius</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public interface ObjectConsumer
+	{
+		/**
+		 * @param go an object within range
+		 * @param distance how far it is from the center of the query
+		 * @return whether to keep going
+		 */
+		public boolean accept( GameObject go, double distance );
+	}
+
+	/**
+	 * Decides which objects <code>nearest</code> may return.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public interface ObjectPredicate
+	{
+		public boolean matches( GameObject go );
+	}
+
+	/**
+	 * Result lists for queries in progress, one per level of nesting (a consumer may query again).
+	 * 
+	 * @since October 18, 2026
+	 */
+	private SpatialGrid.Results[] queryResults = new SpatialGrid.Results[] { new SpatialGrid.Results(), new SpatialGrid.Results() };
+
+	private int queryDepth = 0;
+
+	/**
+	 * Passes every object and unit within <code>radius</code> of the point (wrapping around the world) to the
+	 * consumer, until it asks to stop. Uses the collision grid, so it doesn't allocate or look at faraway objects, but
+	 * doesn't see things created since the grid was last built. Game thread only.
+	 * 
+	 * @param typeMask which types to find, from the <code>QUERY_*</code> constants
+	 * @return how many objects were passed to the consumer
+	 * @since October 18, 2026
+	 */
+	public int queryRadius( double x, double y, double radius, int typeMask, ObjectConsumer consumer )
+	{
+		SpatialGrid.Results results = beginQuery( x, y, radius, typeMask );
+		int found = 0;
+		try
+		{
+			for ( int i = 0; i < results.size(); i++ )
+			{
+				GameObject go = results.getObject( i );
+				if ( go.isRemoved() )
+					continue;
+
+				double distance = Util.getDistance( go, x, y );
+				if ( distance < radius )
+				{
+					found++;
+					if ( !consumer.accept( go, distance ) )
+						break;
+				}
+			}
+		}
+		finally
+		{
+			queryDepth--;
+		}
+		return found;
+	}
+
+	/**
+	 * Returns the closest object or unit within <code>radius</code> of the point that matches the predicate, or
+	 * <code>null</code> if there isn't one.
+	 * 
+	 * @param predicate the test objects must pass, or <code>null</code> to accept everything
+	 * @since October 18, 2026
+	 */
+	public GameObject nearest( double x, double y, double radius, ObjectPredicate predicate )
+	{
+		return nearest( x, y, radius, QUERY_ALL, predicate );
+	}
+
+	/**
+	 * Like <code>nearest( x, y, radius, predicate )</code>, but only looks at the given types.
+	 * 
+	 * @param typeMask which types to find, from the <code>QUERY_*</code> constants
+	 * @since October 18, 2026
+	 */
+	public GameObject nearest( double x, double y, double radius, int typeMask, ObjectPredicate predicate )
+	{
+		SpatialGrid.Results results = beginQuery( x, y, radius, typeMask );
+		GameObject closest = null;
+		double closestDistance = radius;
+		try
+		{
+			for ( int i = 0; i < results.size(); i++ )
+			{
+				GameObject go = results.getObject( i );
+				if ( go.isRemoved() )
+					continue;
+
+				double distance = Util.getDistance( go, x, y );
+				if ( distance < closestDistance && ( predicate == null || predicate.matches( go ) ) )
+				{
+					closest = go;
+					closestDistance = distance;
+				}
+			}
+		}
+		finally
+		{
+			queryDepth--;
+		}
+		return closest;
+	}
+
+	/**
+	 * Runs a grid query into the result list for the next level of nesting. The caller must decrement
+	 * <code>queryDepth</code> when it's done.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private SpatialGrid.Results beginQuery( double x, double y, double radius, int typeMask )
+	{
+		SpatialGrid grid = getCollisionGrid();
+		if ( queryDepth == queryResults.length )
+		{
+			SpatialGrid.Results[] newResults = new SpatialGrid.Results[queryDepth * 2];
+			System.arraycopy( queryResults, 0, newResults, 0, queryDepth );
+			for ( int i = queryDepth; i < newResults.length; i++ )
+				newResults[i] = new SpatialGrid.Results();
+			queryResults = newResults;
+		}
+		SpatialGrid.Results results = queryResults[queryDepth++];
+		grid.query( x, y, radius, typeMask, results );
+		return results;
 	}
 
-	public ConcurrentLinkedQueue<Ship> getPlayers()
+	public EntityRegistry<Ship> getPlayers()
 	{
 		return players;
 	}
 
-	public ConcurrentLinkedQueue<ShootingObject> getShootingObjects()
+	public EntityRegistry<ShootingObject> getShootingObjects()
 	{
 		return shootingObjects;
 	}
@@ -263,7 +746,8 @@ public class ObjectManager implements GameElement
 
 	public boolean contains( long id )
 	{
-		return gameObjects.containsKey( id );
+		GameObject go = gameObjects.get( id );
+		return go != null && !go.isRemoved();
 	}
 
 	public void printDebugInfo()
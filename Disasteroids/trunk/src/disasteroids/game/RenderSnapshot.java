@@ -0,0 +1,412 @@
+/*
+ * DISASTEROIDS
+ * RenderSnapshot.java
+ */
+package disasteroids.game;
+
+import java.awt.Graphics;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import disasteroids.Util;
+import disasteroids.game.objects.BlackHole;
+import disasteroids.game.objects.GameObject;
+import disasteroids.game.objects.ShootingObject;
+import disasteroids.gui.Local;
+import disasteroids.gui.MainWindow;
+import disasteroids.gui.RelativeGraphics;
+
+/**
+ * Where everything was at the end of the last two ticks, handed from the game thread to the drawing thread.
+ *
+ * After each tick, the game loop writes what's in play (and where it was at the end of this tick and the last one)
+ * into a buffer, and publishes it. The canvas picks up the latest buffer at the start of each frame, and draws those
+ * objects part-way between the two positions, according to how long ago the buffer was published. That keeps motion
+ * smooth when frames and ticks don't line up, at the cost of drawing one tick behind.
+ *
+ * There are three buffers: the one being written, the one being drawn, and the latest one published (swapped
+ * atomically between the other two), so neither thread ever waits for or tears the other's.
+ *
+ * Objects still draw themselves, from their own state; we only shift each one (and the camera) to its interpolated
+ * position. Shooting objects' units aren't shifted with them, since they move on their own. Nothing is published on a
+ * dedicated server, which has nothing to draw.
+ *
+ * @author Phillip Cohen
+ * @since October 18, 2026
+ */
+public class RenderSnapshot
+{
+	/**
+	 * The size of the cells objects are sorted into, in pixels.
+	 */
+	private static final int CELL_SIZE = 250;
+
+	/**
+	 * Set on the published buffer's index when it hasn't been picked up yet.
+	 */
+	private static final int FRESH = 4;
+
+	private static final int INDEX_MASK = 3;
+
+	private final Buffer[] buffers = new Buffer[] { new Buffer(), new Buffer(), new Buffer() };
+
+	/**
+	 * The index of the latest published buffer, plus <code>FRESH</code> if it hasn't been drawn yet.
+	 */
+	private final AtomicInteger published = new AtomicInteger( 0 );
+
+	/**
+	 * The buffer the game thread is writing. Only used by the game thread.
+	 */
+	private int writing = 1;
+
+	/**
+	 * The buffer being drawn. Only used by the drawing thread.
+	 */
+	private int drawing = 2;
+
+	/**
+	 * Where each of the object map's slots was when we last published, and what was in it. Only used by the game
+	 * thread.
+	 */
+	private GameObject[] slotObjects = new GameObject[512];
+
+	private double[] slotX = new double[512], slotY = new double[512];
+
+	/**
+	 * How far between the drawn buffer's two positions we are this frame, from 0 to 1.
+	 */
+	private double fraction = 1;
+
+	/**
+	 * Where the center of the screen is this frame.
+	 */
+	private double cameraX = 0, cameraY = 0;
+
+	/**
+	 * Which cell each of the object map's slots went into, or -1 for objects that are always drawn; and where the next
+	 * object goes in each cell. Only used by the game thread.
+	 */
+	private int[] slotCells = new int[512], cellCursors = new int[0];
+
+	/**
+	 * What's in each of the object map's slots as we publish, so every pass sees the same objects. Only used by the
+	 * game thread.
+	 */
+	private GameObject[] current = new GameObject[512];
+
+	/**
+	 * Records where everything is now, and publishes it to the drawing thread. Called by the game loop after each tick.
+	 *
+	 * Most objects are sorted by which cell of a coarse grid they're in, so the drawing thread only visits the cells
+	 * around the screen. Shooting objects (whose units can be anywhere) and black holes (whose images are big) come
+	 * after, and are always visited; black holes last, so they're drawn on top.
+	 *
+	 * @param objects the object map
+	 */
+	void publish( LongObjectMap<GameObject> objects )
+	{
+		int slotCount = objects.getSlotCount();
+		if ( slotCount > slotObjects.length )
+			growSlots( slotCount );
+
+		Buffer buffer = buffers[writing];
+		buffer.count = 0;
+		buffer.camera = -1;
+		if ( buffer.objects.length < slotCount )
+			buffer.grow( slotCount );
+
+		int columns = ( Game.getInstance().GAME_WIDTH + CELL_SIZE - 1 ) / CELL_SIZE;
+		int rows = ( Game.getInstance().GAME_HEIGHT + CELL_SIZE - 1 ) / CELL_SIZE;
+		if ( buffer.cellStart.length != columns * rows + 1 )
+			buffer.cellStart = new int[columns * rows + 1];
+		if ( cellCursors.length != columns * rows + 1 )
+			cellCursors = new int[columns * rows + 1];
+		buffer.columns = columns;
+		buffer.rows = rows;
+
+		// Count how many ordinary objects are in each cell...
+		int[] cellStart = buffer.cellStart;
+		Arrays.fill( cellStart, 0 );
+		for ( int i = 0; i < slotCount; i++ )
+		{
+			GameObject go = current[i] = objects.valueAt( i );
+			if ( go == null || go.isRemoved() || go instanceof BlackHole || go instanceof ShootingObject )
+			{
+				slotCells[i] = -1;
+				continue;
+			}
+
+			int column = Math.max( 0, Math.min( columns - 1, (int) ( go.getX() / CELL_SIZE ) ) );
+			int row = Math.max( 0, Math.min( rows - 1, (int) ( go.getY() / CELL_SIZE ) ) );
+			slotCells[i] = row * columns + column;
+			cellStart[slotCells[i] + 1]++;
+		}
+
+		// ...work out where each cell's objects start...
+		for ( int c = 1; c < cellStart.length; c++ )
+			cellStart[c] += cellStart[c - 1];
+		System.arraycopy( cellStart, 0, cellCursors, 0, cellStart.length );
+
+		// ...and put them there.
+		GameObject localPlayer = Local.isStuffNull() ? null : Local.getLocalPlayer();
+		for ( int i = 0; i < slotCount; i++ )
+		{
+			if ( slotCells[i] >= 0 )
+				record( buffer, cellCursors[slotCells[i]]++, current[i], i, localPlayer );
+		}
+		buffer.count = cellStart[cellStart.length - 1];
+
+		// Then the ones that are always drawn.
+		for ( int pass = 0; pass < 2; pass++ )
+		{
+			for ( int i = 0; i < slotCount; i++ )
+			{
+				GameObject go = current[i];
+				if ( go == null || go.isRemoved() || slotCells[i] >= 0 || ( go instanceof BlackHole ) != ( pass == 1 ) )
+					continue;
+
+				record( buffer, buffer.count++, go, i, localPlayer );
+			}
+		}
+
+		// Remember this tick's positions for the next one, and let go of anything that's gone.
+		for ( int i = 0; i < slotCount; i++ )
+		{
+			GameObject go = slotObjects[i] = current[i];
+			current[i] = null;
+			if ( go != null )
+			{
+				slotX[i] = go.getX();
+				slotY[i] = go.getY();
+			}
+		}
+		for ( int i = buffer.count; i < buffer.used; i++ )
+			buffer.objects[i] = null;
+		buffer.used = buffer.count;
+		buffer.time = System.nanoTime();
+
+		writing = published.getAndSet( writing | FRESH ) & INDEX_MASK;
+	}
+
+	/**
+	 * Writes one object into the buffer, at <code>n</code>.
+	 */
+	private void record( Buffer buffer, int n, GameObject go, int slot, GameObject localPlayer )
+	{
+		double x = go.getX(), y = go.getY();
+		buffer.objects[n] = go;
+		buffer.x[n] = x;
+		buffer.y[n] = y;
+
+		// Objects new to this slot start where they are.
+		if ( slotObjects[slot] == go )
+		{
+			buffer.previousX[n] = slotX[slot];
+			buffer.previousY[n] = slotY[slot];
+		}
+		else
+		{
+			buffer.previousX[n] = x;
+			buffer.previousY[n] = y;
+		}
+
+		if ( go == localPlayer )
+			buffer.camera = n;
+	}
+
+	/**
+	 * Picks up the latest buffer, if there's a new one, and points the camera at the local player's interpolated
+	 * position. Call at the start of each frame, before anything is drawn.
+	 */
+	public void beginFrame()
+	{
+		if ( ( published.get() & FRESH ) != 0 )
+			drawing = published.getAndSet( drawing ) & INDEX_MASK;
+
+		Buffer buffer = buffers[drawing];
+		fraction = buffer.time == 0 ? 1 : Math.min( 1, Math.max( 0, (double) ( System.nanoTime() - buffer.time ) / GameLoop.getPeriod() ) );
+
+		if ( buffer.camera >= 0 && buffer.objects[buffer.camera] == Local.getLocalPlayer() )
+		{
+			cameraX = interpolateX( buffer, buffer.camera );
+			cameraY = interpolateY( buffer, buffer.camera );
+		}
+		else
+		{
+			cameraX = Local.getLocalPlayer().getX();
+			cameraY = Local.getLocalPlayer().getY();
+		}
+		RelativeGraphics.setCamera( cameraX, cameraY );
+	}
+
+	/**
+	 * Draws every object in the buffer picked up by <code>beginFrame</code>, each shifted to its interpolated position.
+	 */
+	public void draw( Graphics g )
+	{
+		Buffer buffer = buffers[drawing];
+		if ( buffer.columns == 0 )
+			return;
+
+		// Find the cells around the screen. Objects are sorted by where they were at the end of the tick, and can be
+		// drawn a little way from there, so allow a cell's margin.
+		int halfWidth = MainWindow.frame().getWidth() / 2 + CELL_SIZE, halfHeight = MainWindow.frame().getHeight() / 2 + CELL_SIZE;
+		int firstColumn = (int) Math.floor( ( cameraX - halfWidth ) / CELL_SIZE ), lastColumn = (int) Math.floor( ( cameraX + halfWidth ) / CELL_SIZE );
+		int firstRow = (int) Math.floor( ( cameraY - halfHeight ) / CELL_SIZE ), lastRow = (int) Math.floor( ( cameraY + halfHeight ) / CELL_SIZE );
+		lastColumn = Math.min( lastColumn, firstColumn + buffer.columns - 1 );
+		lastRow = Math.min( lastRow, firstRow + buffer.rows - 1 );
+
+		for ( int row = firstRow; row <= lastRow; row++ )
+		{
+			int wrappedRow = ( row % buffer.rows + buffer.rows ) % buffer.rows;
+			for ( int column = firstColumn; column <= lastColumn; column++ )
+			{
+				int cell = wrappedRow * buffer.columns + ( column % buffer.columns + buffer.columns ) % buffer.columns;
+				for ( int i = buffer.cellStart[cell]; i < buffer.cellStart[cell + 1]; i++ )
+				{
+					if ( !GameLoop.isRunning() )
+						return;
+					draw( g, buffer, i );
+				}
+			}
+		}
+
+		// Then the objects that are always drawn.
+		for ( int i = buffer.cellStart[buffer.cellStart.length - 1]; i < buffer.count; i++ )
+		{
+			if ( !GameLoop.isRunning() )
+				return;
+			draw( g, buffer, i );
+		}
+	}
+
+	/**
+	 * Draws one object, shifted to its interpolated position. A shooting object's units are drawn where they are.
+	 */
+	private void draw( Graphics g, Buffer buffer, int i )
+	{
+		GameObject go = buffer.objects[i];
+		if ( go == null || go.isRemoved() )
+			return;
+
+		if ( go instanceof ShootingObject )
+			( (ShootingObject) go ).drawWeapons( g );
+
+		int offsetX = (int) Math.round( Util.getDeltaX( interpolateX( buffer, i ), go.getX() ) );
+		int offsetY = (int) Math.round( Util.getDeltaY( interpolateY( buffer, i ), go.getY() ) );
+		g.translate( offsetX, offsetY );
+		go.draw( g );
+		g.translate( -offsetX, -offsetY );
+	}
+
+	/**
+	 * Returns how many objects are in the buffer picked up by <code>beginFrame</code>. Only call from the drawing thread.
+	 *
+	 * Objects can be read back by index, in the order they're drawn: the ones sorted into cells, then shooting objects,
+	 * then black holes.
+	 */
+	public int getObjectCount()
+	{
+		return buffers[drawing].count;
+	}
+
+	/**
+	 * Returns the object at <code>i</code> in the drawn buffer. Check <code>isRemoved</code> before using it.
+	 */
+	public GameObject getObject( int i )
+	{
+		return buffers[drawing].objects[i];
+	}
+
+	/**
+	 * Returns where the object at <code>i</code> in the drawn buffer was at the end of its tick.
+	 */
+	public double getObjectX( int i )
+	{
+		return buffers[drawing].x[i];
+	}
+
+	public double getObjectY( int i )
+	{
+		return buffers[drawing].y[i];
+	}
+
+	/**
+	 * Returns which object in the drawn buffer is the local player, or -1 if none is.
+	 */
+	public int getCameraIndex()
+	{
+		return buffers[drawing].camera;
+	}
+
+	private double interpolateX( Buffer buffer, int i )
+	{
+		return buffer.previousX[i] + Util.getDeltaX( buffer.x[i], buffer.previousX[i] ) * fraction;
+	}
+
+	private double interpolateY( Buffer buffer, int i )
+	{
+		return buffer.previousY[i] + Util.getDeltaY( buffer.y[i], buffer.previousY[i] ) * fraction;
+	}
+
+	private void growSlots( int size )
+	{
+		int capacity = Math.max( size, slotObjects.length * 2 );
+		GameObject[] newObjects = new GameObject[capacity];
+		double[] newX = new double[capacity], newY = new double[capacity];
+		slotCells = new int[capacity];
+		current = new GameObject[capacity];
+		System.arraycopy( slotObjects, 0, newObjects, 0, slotObjects.length );
+		System.arraycopy( slotX, 0, newX, 0, slotX.length );
+		System.arraycopy( slotY, 0, newY, 0, slotY.length );
+		slotObjects = newObjects;
+		slotX = newX;
+		slotY = newY;
+	}
+
+	/**
+	 * One published tick: what was in play, and where it was at the end of this tick and the last.
+	 */
+	private static class Buffer
+	{
+		GameObject[] objects = new GameObject[512];
+
+		double[] x = new double[512], y = new double[512], previousX = new double[512], previousY = new double[512];
+
+		/**
+		 * How many objects are in the buffer, and how many slots might still hold old references.
+		 */
+		int count = 0, used = 0;
+
+		/**
+		 * Which object is the local player, or -1 if none is.
+		 */
+		int camera = -1;
+
+		/**
+		 * The grid the ordinary objects are sorted into: where each cell's objects start (with one more entry for
+		 * where they all end), and its size in cells.
+		 */
+		int[] cellStart = new int[1];
+
+		int columns = 0, rows = 0;
+
+		/**
+		 * When the buffer was published, from <code>System.nanoTime</code>; 0 if never.
+		 */
+		long time = 0;
+
+		void grow( int size )
+		{
+			int capacity = Math.max( size, objects.length * 2 );
+			GameObject[] newObjects = new GameObject[capacity];
+			System.arraycopy( objects, 0, newObjects, 0, used );
+			objects = newObjects;
+			x = new double[capacity];
+			y = new double[capacity];
+			previousX = new double[capacity];
+			previousY = new double[capacity];
+		}
+	}
+}
@@ -0,0 +1,376 @@
+/*
+ * DISASTEROIDS
+ * SpatialGrid.java
+ */
+package disasteroids.game;
+
+import java.util.Arrays;
+
+import disasteroids.game.objects.GameObject;
+import disasteroids.game.objects.ShootingObject;
+
+/**
+ * A uniform grid over the wrap-around world, used to find what's near a point without checking everything.
+ *
+ * The grid is rebuilt by the <code>CollisionSystem</code> at the end of each step. Each object (and each unit, along
+ * with the <code>ShootingObject</code> that fired it) is put in every cell its collision radius touches, widened by
+ * its speed so it stays covered as it moves during the next step. Cells wrap around the edges the same way
+ * <code>Util.getDeltaX</code> and <code>Util.getDeltaY</code> do, so queries near an edge find objects on the far
+ * side.
+ *
+ * Queries only narrow things down; callers still do their own hit tests. Things created since the grid was built
+ * aren't in it, and things removed since are skipped.
+ *
+ * Not synchronized: only the game thread should build or query it.
+ *
+ * @author Phillip Cohen
+ * @since October 18, 2026
+ */
+public class SpatialGrid
+{
+	/**
+	 * The number of cells across and down. Cells divide the world evenly, so wrapping a coordinate and wrapping a
+	 * cell index agree.
+	 */
+	private final int columns, rows;
+
+	private final double cellWidth, cellHeight;
+
+	/**
+	 * The first entry in each cell's list, or -1 if it's empty.
+	 */
+	private final int[] cellHeads;
+
+	/**
+	 * The entries: the item each one refers to, and the next entry in the same cell (or -1).
+	 */
+	private int[] entryItems = new int[256], entryNext = new int[256];
+
+	private int entryCount = 0;
+
+	/**
+	 * The items in the grid, and the <code>ShootingObject</code> that owns each one (for units) or <code>null</code>.
+	 */
+	private GameObject[] items = new GameObject[128];
+
+	private ShootingObject[] owners = new ShootingObject[128];
+
+	/**
+	 * The type of each item, as a bitmask that queries can filter on.
+	 */
+	private int[] itemMasks = new int[128];
+
+	private int itemCount = 0;
+
+	/**
+	 * The query each item was last reported in, so an item that spans several cells is only reported once.
+	 */
+	private int[] itemStamps = new int[128];
+
+	private int stamp = 0;
+
+	/**
+	 * Creates a grid.
+	 *
+	 * @param width the world's width
+	 * @param height the world's height
+	 * @param cellSize the preferred size of each cell; it's adjusted so the cells divide the world evenly
+	 */
+	public SpatialGrid( double width, double height, double cellSize )
+	{
+		columns = Math.max( 1, (int) Math.round( width / cellSize ) );
+		rows = Math.max( 1, (int) Math.round( height / cellSize ) );
+		cellWidth = width / columns;
+		cellHeight = height / rows;
+		cellHeads = new int[columns * rows];
+		Arrays.fill( cellHeads, -1 );
+	}
+
+	/**
+	 * Empties the grid.
+	 */
+	public void clear()
+	{
+		Arrays.fill( cellHeads, -1 );
+		Arrays.fill( items, 0, itemCount, null );
+		Arrays.fill( owners, 0, itemCount, null );
+		entryCount = 0;
+		itemCount = 0;
+	}
+
+	/**
+	 * Adds an object to every cell its collision radius (widened by its speed) touches.
+	 *
+	 * @param go the object
+	 * @param owner the object that fired <code>go</code>, if it's a unit; otherwise <code>null</code>
+	 * @param mask the object's type, as a bitmask that queries can filter on
+	 */
+	public void insert( GameObject go, ShootingObject owner, int mask )
+	{
+		if ( itemCount == items.length )
+			growItems();
+
+		int item = itemCount++;
+		items[item] = go;
+		owners[item] = owner;
+		itemMasks[item] = mask;
+		itemStamps[item] = stamp;
+
+		double extent = go.getCollisionRadius() + Math.abs( go.getDx() ) + Math.abs( go.getDy() );
+		int left = cellOf( go.getX() - extent, cellWidth ), right = cellOf( go.getX() + extent, cellWidth );
+		int top = cellOf( go.getY() - extent, cellHeight ), bottom = cellOf( go.getY() + extent, cellHeight );
+		if ( right - left >= columns )
+			right = left + columns - 1;
+		if ( bottom - top >= rows )
+			bottom = top + rows - 1;
+
+		for ( int cy = top; cy <= bottom; cy++ )
+		{
+			int row = wrapIndex( cy, rows ) * columns;
+			for ( int cx = left; cx <= right; cx++ )
+			{
+				int cell = row + wrapIndex( cx, columns );
+				if ( entryCount == entryItems.length )
+					growEntries();
+				entryItems[entryCount] = item;
+				entryNext[entryCount] = cellHeads[cell];
+				cellHeads[cell] = entryCount;
+				entryCount++;
+			}
+		}
+	}
+
+	/**
+	 * Finds everything that might be within <code>radius</code> of the given point, skipping anything that's been
+	 * removed since the grid was built. The results may include things that are farther away.
+	 *
+	 * @param results where to put what's found; cleared first
+	 */
+	public void query( double x, double y, double radius, Results results )
+	{
+		query( x, y, radius, -1, results );
+	}
+
+	/**
+	 * Like <code>query</code>, but only finds items whose type mask shares a bit with <code>mask</code>.
+	 */
+	public void query( double x, double y, double radius, int mask, Results results )
+	{
+		results.clear();
+		if ( ++stamp == Integer.MAX_VALUE )
+		{
+			Arrays.fill( itemStamps, 0 );
+			stamp = 1;
+		}
+
+		int left = cellOf( x - radius, cellWidth ), right = cellOf( x + radius, cellWidth );
+		int top = cellOf( y - radius, cellHeight ), bottom = cellOf( y + radius, cellHeight );
+		if ( right - left >= columns )
+			right = left + columns - 1;
+		if ( bottom - top >= rows )
+			bottom = top + rows - 1;
+
+		for ( int cy = top; cy <= bottom; cy++ )
+		{
+			int row = wrapIndex( cy, rows ) * columns;
+			for ( int cx = left; cx <= right; cx++ )
+				collect( row + wrapIndex( cx, columns ), mask, results );
+		}
+	}
+
+	/**
+	 * Adds the items in one cell that this query hasn't reported yet.
+	 */
+	private void collect( int cell, int mask, Results results )
+	{
+		for ( int entry = cellHeads[cell]; entry != -1; entry = entryNext[entry] )
+		{
+			int item = entryItems[entry];
+			if ( itemStamps[item] == stamp )
+				continue;
+			itemStamps[item] = stamp;
+
+			if ( ( itemMasks[item] & mask ) == 0 )
+				continue;
+
+			if ( items[item].isRemoved() || ( owners[item] != null && owners[item].isRemoved() ) )
+				continue;
+			results.add( item, items[item], owners[item] );
+		}
+	}
+
+	/**
+	 * Finds everything that might be within <code>radius</code> of the segment between two points, skipping anything
+	 * that's been removed since the grid was built. The results may include things that are farther away.
+	 *
+	 * The segment is walked in steps no longer than a cell, looking in the cells around each step.
+	 *
+	 * @param results where to put what's found; cleared first
+	 */
+	public void querySegment( double x1, double y1, double x2, double y2, double radius, Results results )
+	{
+		results.clear();
+		if ( ++stamp == Integer.MAX_VALUE )
+		{
+			Arrays.fill( itemStamps, 0 );
+			stamp = 1;
+		}
+
+		double stepSize = Math.min( cellWidth, cellHeight );
+		int steps = Math.max( 1, (int) Math.ceil( Math.sqrt( ( x2 - x1 ) * ( x2 - x1 ) + ( y2 - y1 ) * ( y2 - y1 ) ) / stepSize ) );
+		double padding = radius + stepSize / 2;
+		for ( int s = 0; s <= steps; s++ )
+		{
+			double x = x1 + ( x2 - x1 ) * s / steps, y = y1 + ( y2 - y1 ) * s / steps;
+			int left = cellOf( x - padding, cellWidth ), right = cellOf( x + padding, cellWidth );
+			int top = cellOf( y - padding, cellHeight ), bottom = cellOf( y + padding, cellHeight );
+			for ( int cy = top; cy <= bottom; cy++ )
+			{
+				int row = wrapIndex( cy, rows ) * columns;
+				for ( int cx = left; cx <= right; cx++ )
+					collect( row + wrapIndex( cx, columns ), -1, results );
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of objects and units in the grid.
+	 */
+	public int size()
+	{
+		return itemCount;
+	}
+
+	/**
+	 * Returns the object or unit with the given index. Items are indexed in the order they were inserted.
+	 */
+	public GameObject getItem( int index )
+	{
+		return items[index];
+	}
+
+	/**
+	 * Returns the <code>ShootingObject</code> that fired the item with the given index, or <code>null</code> if it's
+	 * not a unit.
+	 */
+	public ShootingObject getOwner( int index )
+	{
+		return owners[index];
+	}
+
+	/**
+	 * Returns the (unwrapped) cell index of a coordinate.
+	 */
+	private static int cellOf( double coordinate, double cellSize )
+	{
+		return (int) Math.floor( coordinate / cellSize );
+	}
+
+	/**
+	 * Wraps a cell index into <code>[0, count)</code>.
+	 */
+	private static int wrapIndex( int index, int count )
+	{
+		index %= count;
+		return index < 0 ? index + count : index;
+	}
+
+	private void growItems()
+	{
+		int capacity = items.length * 2;
+		GameObject[] newItems = new GameObject[capacity];
+		ShootingObject[] newOwners = new ShootingObject[capacity];
+		int[] newMasks = new int[capacity], newStamps = new int[capacity];
+		System.arraycopy( items, 0, newItems, 0, itemCount );
+		System.arraycopy( owners, 0, newOwners, 0, itemCount );
+		System.arraycopy( itemMasks, 0, newMasks, 0, itemCount );
+		System.arraycopy( itemStamps, 0, newStamps, 0, itemCount );
+		items = newItems;
+		owners = newOwners;
+		itemMasks = newMasks;
+		itemStamps = newStamps;
+	}
+
+	private void growEntries()
+	{
+		int capacity = entryItems.length * 2;
+		int[] newItems = new int[capacity], newNext = new int[capacity];
+		System.arraycopy( entryItems, 0, newItems, 0, entryCount );
+		System.arraycopy( entryNext, 0, newNext, 0, entryCount );
+		entryItems = newItems;
+		entryNext = newNext;
+	}
+
+	/**
+	 * A reusable list of query results. Each caller should keep its own, so querying doesn't allocate.
+	 */
+	public static class Results
+	{
+		private GameObject[] objects = new GameObject[32];
+
+		private ShootingObject[] owners = new ShootingObject[32];
+
+		private int[] indices = new int[32];
+
+		private int size = 0;
+
+		void add( int index, GameObject go, ShootingObject owner )
+		{
+			if ( size == objects.length )
+			{
+				GameObject[] newObjects = new GameObject[size * 2];
+				ShootingObject[] newOwners = new ShootingObject[size * 2];
+				int[] newIndices = new int[size * 2];
+				System.arraycopy( objects, 0, newObjects, 0, size );
+				System.arraycopy( owners, 0, newOwners, 0, size );
+				System.arraycopy( indices, 0, newIndices, 0, size );
+				objects = newObjects;
+				owners = newOwners;
+				indices = newIndices;
+			}
+			objects[size] = go;
+			owners[size] = owner;
+			indices[size] = index;
+			size++;
+		}
+
+		void clear()
+		{
+			Arrays.fill( objects, 0, size, null );
+			Arrays.fill( owners, 0, size, null );
+			size = 0;
+		}
+
+		public int size()
+		{
+			return size;
+		}
+
+		/**
+		 * Returns the object at the given index.
+		 */
+		public GameObject getObject( int index )
+		{
+			return objects[index];
+		}
+
+		/**
+		 * Returns the <code>ShootingObject</code> that fired the object at the given index, or <code>null</code> if
+		 * it's not a unit.
+		 */
+		public ShootingObject getOwner( int index )
+		{
+			return owners[index];
+		}
+
+		/**
+		 * Returns the grid's index for the object at the given index.
+		 *
+		 * @see SpatialGrid#getItem
+		 */
+		public int getIndex( int index )
+		{
+			return indices[index];
+		}
+	}
+}
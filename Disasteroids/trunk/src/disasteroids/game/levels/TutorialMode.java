@@ -27,6 +27,13 @@ import disasteroids.gui.MainWindow;
  */
 public class TutorialMode implements Level
 {
+	/**
+	 * The fonts the instructions are written in.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static final Font title = new Font( "Tahoma", Font.BOLD, 24 ), textFont = new Font( "Tahoma", Font.BOLD, 12 );
+
 	int stage = 0, counter = 0;
 
 	double playerStartX = 0, playerStartY = 0;
@@ -135,8 +142,6 @@ public class TutorialMode implements Level
 	public void drawHUD( Graphics g )
 	{
 		Graphics2D g2d = (Graphics2D) g;
-		Font title = new Font( "Tahoma", Font.BOLD, 24 );
-		Font textFont = new Font( "Tahoma", Font.BOLD, 12 );
 		g.setFont( textFont );
 		int x = 0, y = MainWindow.frame().getPanel().getHeight() / 4;
 		String text = "";
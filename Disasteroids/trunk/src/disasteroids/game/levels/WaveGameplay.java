@@ -5,7 +5,6 @@
 package disasteroids.game.levels;
 
 import java.awt.Color;
-import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.io.DataInputStream;
@@ -23,8 +22,8 @@ import disasteroids.game.objects.Bonus;
 import disasteroids.game.objects.BonusAsteroid;
 import disasteroids.game.objects.Ship;
 import disasteroids.game.objects.Station;
+import disasteroids.gui.HudText;
 import disasteroids.gui.MainWindow;
-import disasteroids.gui.RelativeGraphics;
 
 /**
  * A level where players fend off waves of asteroids.
@@ -34,6 +33,13 @@ public class WaveGameplay implements Level
 {
 	private int currentWave = 1;
 
+	/**
+	 * The wave counter and its label, laid out.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private final HudText waveText = new HudText( HudText.COUNTER_FONT ), waveLabel = new HudText( HudText.LABEL_FONT, "wave" );
+
 	private boolean warp = false;
 
 	private boolean bossFight = false, bossFightReady = false;
@@ -108,7 +114,8 @@ public class WaveGameplay implements Level
 		{
 			if ( Game.getInstance().getObjectManager().getBonuses().size() == 0 )
 			{
-				MainWindow.frame().showStartMessage( "Here they come!" );
+				if ( MainWindow.frame() != null )
+					MainWindow.frame().showStartMessage( "Here they come!" );
 				bossFightReady = true;
 			}
 			else
@@ -116,8 +123,8 @@ public class WaveGameplay implements Level
 		}
 		// Spawn asteroids directly opposite from player 1.
 		// TODO: Sync all of these creations.
-		double x = RelativeGraphics.oppositeX() + Util.getGameplayRandomGenerator().nextInt( 100 ) - 50;
-		double y = RelativeGraphics.oppositeY() + Util.getGameplayRandomGenerator().nextInt( 100 ) - 50;
+		double x = getSpawnX() + Util.getGameplayRandomGenerator().nextInt( 100 ) - 50;
+		double y = getSpawnY() + Util.getGameplayRandomGenerator().nextInt( 100 ) - 50;
 
 		double spawnRate = Math.min( 9, Math.max( 1, ( Game.getInstance().getObjectManager().getBaddies().size() + Game.getInstance().getObjectManager().getAsteroids().size() ) / 20.0 ) );
 		if ( bossFight )
@@ -182,22 +189,18 @@ public class WaveGameplay implements Level
 	public void drawHUD( Graphics g )
 	{
 		Graphics2D g2d = (Graphics2D) g;
-		String text = "";
 		int x = MainWindow.frame().getPanel().getWidth() - 10;
 		int y = MainWindow.frame().getPanel().getHeight() - 25;
 
 		// Draw the counter.
 		g2d.setColor( Color.lightGray );
-		g2d.setFont( new Font( "Tahoma", Font.BOLD, 16 ) );
-		text = "" + currentWave;
-		x -= (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth();
-		g2d.drawString( text, x, y );
+		waveText.setNumber( currentWave );
+		x -= waveText.getWidth();
+		waveText.draw( g2d, x, y );
 
 		// Draw the "wave" string.
-		g2d.setFont( new Font( "Tahoma", Font.ITALIC, 12 ) );
-		text = "wave";
-		x -= (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth() + 8;
-		g2d.drawString( text, x, y );
+		x -= waveLabel.getWidth() + 8;
+		waveLabel.draw( g2d, x, y );
 
 		// Draw the progress box.
 		x = MainWindow.frame().getPanel().getWidth() - 110;
@@ -219,6 +222,35 @@ public class WaveGameplay implements Level
 		return wave * 1200 + 200;
 	}
 
+	/**
+	 * Returns the x coordinate directly opposite the first player, or a random one if nobody has joined yet (i.e. a
+	 * dedicated server).
+	 *
+	 * @since October 18, 2026
+	 */
+	int getSpawnX()
+	{
+		Ship first = Game.getInstance().getObjectManager().getPlayers().peek();
+		if ( first == null )
+			return Util.getGameplayRandomGenerator().nextInt( Game.getInstance().GAME_WIDTH );
+		else
+			return (int) ( first.getX() + Game.getInstance().GAME_WIDTH / 2 ) % Game.getInstance().GAME_WIDTH;
+	}
+
+	/**
+	 * Returns the y coordinate directly opposite the first player, or a random one if nobody has joined yet.
+	 *
+	 * @since October 18, 2026
+	 */
+	int getSpawnY()
+	{
+		Ship first = Game.getInstance().getObjectManager().getPlayers().peek();
+		if ( first == null )
+			return Util.getGameplayRandomGenerator().nextInt( Game.getInstance().GAME_HEIGHT );
+		else
+			return (int) ( first.getY() + Game.getInstance().GAME_HEIGHT / 2 ) % Game.getInstance().GAME_HEIGHT;
+	}
+
 	public void flatten( DataOutputStream stream ) throws IOException
 	{
 		stream.writeInt( currentWave );
@@ -12,10 +12,10 @@ import java.io.IOException;
 
 import disasteroids.Util;
 import disasteroids.game.Game;
+import disasteroids.game.ObjectManager;
 import disasteroids.game.weapons.Missile;
 import disasteroids.game.weapons.MissileManager;
 import disasteroids.game.weapons.Unit;
-import disasteroids.game.weapons.Weapon;
 import disasteroids.gui.ImageLibrary;
 import disasteroids.gui.MainWindow;
 import disasteroids.gui.ParticleManager;
@@ -111,22 +111,9 @@ public class Alien extends ShootingObject
 		if ( ( ax != oldAx || ay != oldAy ) && Server.is() )
 			ServerCommands.updateObjectVelocity( this );
 
-		// Find players within our range.
+		// Find the closest player within our range.
 		int range = 300;
-		Ship closestShip = null;
-		{
-			Ship closestInvincible = null;
-			for ( Ship s : Game.getInstance().getObjectManager().getPlayers() )
-				if ( Util.getDistance( this, s ) < range )
-				{
-					if ( closestShip == null || Util.getDistance( this, s ) > Util.getDistance( this, s ) )
-						closestShip = s;
-					if ( closestInvincible == null || Util.getDistance( this, s ) > Util.getDistance( this, s ) )
-						closestInvincible = s;
-				}
-			if ( closestShip == null && closestInvincible != null )
-				closestShip = closestInvincible;
-		}
+		Ship closestShip = (Ship) Game.getInstance().getObjectManager().nearest( getX(), getY(), range, ObjectManager.QUERY_PLAYERS, null );
 
 		// Aim towards closest ship.
 		if ( closestShip != null )
@@ -146,7 +133,10 @@ public class Alien extends ShootingObject
 	{
 		move();
 		setSpeed( Math.min( 3, getDx() + ax ), Math.min( 3, getDy() + ay ) );
-		checkCollision();
+
+		// Killed by a collision: start flashing, without the chance of a bonus.
+		if ( explosionTime <= 0 && life < 0 )
+			explosionTime = 20;
 
 		// Prepare to flash.
 		if ( life <= 0 )
@@ -179,62 +169,76 @@ public class Alien extends ShootingObject
 	}
 
 	/**
-	 * Checks if any Weapons or players have collided, and updates health,
-	 * explosions, and lives as necessary.
+	 * Covers our box, which runs from our location to ( size, size ) past it.
+	 * 
+	 * @since October 18, 2026
 	 */
-	private void checkCollision()
+	@Override
+	public double getCollisionRadius()
 	{
-		if ( explosionTime > 0 )
-			return;
-		if ( life < 0 )
-		{
-			explosionTime = 20;
+		return size * 1.5;
+	}
+
+	/**
+	 * We're a box, running from our location to ( size, size ) past it.
+	 * 
+	 * @since October 18, 2026
+	 */
+	@Override
+	public boolean isTouching( double x, double y, double radius )
+	{
+		return ( x + radius > getX() && x - radius < getX() + size ) && ( y + radius > getY() && y - radius < getY() + size );
+	}
+
+	/**
+	 * @since October 18, 2026
+	 */
+	@Override
+	public boolean isTouchingPath( double x, double y, double moveX, double moveY, double radius )
+	{
+		return Util.pathTouchesBox( x, y, moveX, moveY, getX() - radius, getY() - radius, getX() + size + radius, getY() + size + radius );
+	}
+
+	/**
+	 * Returns whether a missile that touches us would hit us, rather than pass through.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public boolean canBeHitBy( Unit m )
+	{
+		return explosionTime <= 0 && life >= 0;
+	}
+
+	/**
+	 * Called by the <code>CollisionSystem</code> when someone else's missile touches us.
+	 * 
+	 * @param m the missile
+	 * @param s the ship, station, etc. that fired it
+	 * @since October 18, 2026
+	 */
+	public void hitBy( Unit m, ShootingObject s )
+	{
+		if ( !canBeHitBy( m ) )
 			return;
-		}
 
-		// Check for missile collision.
-		for ( ShootingObject s : Game.getInstance().getObjectManager().getShootingObjects() )
-		{
-			if ( s == this )
-				continue;
+		m.explode();
+		life -= m.getDamage();
+		if ( life < 0 && s instanceof Ship )
+			( (Ship) s ).increaseScore( 1000 );
+	}
 
-			// Loop through the mangers.
-			for ( Weapon wm : s.getWeapons() )
-			{
-				// Loop through the bullets.
-				for ( Unit m : wm.getUnits() )
-				{
-					// Were we hit by a bullet?
-					if ( ( m.getX() + m.getRadius() > getX() && m.getX() - m.getRadius() < getX() + size ) && ( m.getY() + m.getRadius() > getY() && m.getY() - m.getRadius() < getY() + size ) )
-					{
-						m.explode();
-						life -= m.getDamage();
-						if ( life < 0 && s instanceof Ship )
-							( (Ship) s ).increaseScore( 1000 );
-					}
-					if ( life < 0 )
-						break;
-				}
-				if ( life < 0 )
-					break;
-			}
-			if ( life < 0 )
-				break;
-		}
+	/**
+	 * Called by the <code>CollisionSystem</code> when a player runs into us.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public void rammedBy( Ship s )
+	{
+		if ( explosionTime > 0 || s.livesLeft() < 0 )
+			return;
 
-		// Check for ship collision.
-		for ( Ship s : Game.getInstance().getObjectManager().getPlayers() )
-		{
-			// Were we hit by the ship's body?
-			if ( s.livesLeft() >= 0 )
-			{
-				if ( ( s.getX() + s.getRadius() > getX() && s.getX() - s.getRadius() < getX() + size ) && ( s.getY() + s.getRadius() > getY() && s.getY() - s.getRadius() < getY() + size ) )
-				{
-					if ( s.damage( 5, s.getName() + " was abducted." ) )
-						life -= 20;
-				}
-			}
-		}
+		if ( s.damage( 5, s.getName() + " was abducted." ) )
+			life -= 20;
 	}
 
 	/**
@@ -283,13 +287,12 @@ public class Alien extends ShootingObject
 	@Override
 	public void draw( Graphics g )
 	{
-		super.draw( g );
 		if ( explosionTime > 0 )
 		{
 			MainWindow.frame().fillCircle( g, color.darker().darker(), (int) getX(), (int) getY(), (int) ( size * 0.1 * ( explosionTime - 1 ) ) );
 			return;
 		}
-		MainWindow.frame().drawImage( g, ImageLibrary.getAlien(), (int) getX() + size / 2, (int) getY() + size / 3, angle, ( size * 1.6 ) / ImageLibrary.getAlien().getWidth( null ) );
+		MainWindow.frame().drawImage( g, ImageLibrary.getAlien(), (int) getX() + size / 2, (int) getY() + size / 3, angle, ( size * 1.6 ) / ImageLibrary.getAlien().getWidth( null ), color );
 	}
 
 	@Override
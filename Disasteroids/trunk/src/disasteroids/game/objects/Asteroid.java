@@ -13,7 +13,6 @@ import disasteroids.Util;
 import disasteroids.game.Game;
 import disasteroids.game.GameElement;
 import disasteroids.game.weapons.Unit;
-import disasteroids.game.weapons.Weapon;
 import disasteroids.gui.ImageLibrary;
 import disasteroids.gui.Local;
 import disasteroids.gui.MainWindow;
@@ -81,8 +80,6 @@ public class Asteroid extends GameObject implements GameElement
 
 	public void act()
 	{
-		move();
-		checkCollision();
 		if ( !Game.getInstance().isPaused() )
 			angle += radius % 2 == 0 ? .05 : -.05;
 	}
@@ -112,53 +109,47 @@ public class Asteroid extends GameObject implements GameElement
 	}
 
 	/**
-	 * Checks, and acts, if we were hit by a missile or ship.
+	 * Called by the <code>CollisionSystem</code> when a ship's body touches us.
 	 * 
-	 * @since Classic
+	 * @since October 18, 2026
 	 */
-	private void checkCollision()
+	public void rammedBy( Ship s )
 	{
-		// Go through all of the ships.
-		for ( Ship s : Game.getInstance().getObjectManager().getPlayers() )
-		{
-			// Were we hit by the ship's body?
-			if ( s.livesLeft() >= 0 )
-			{
-				if ( Util.getDistance( this, s ) < radius + s.getRadius() )
-				{
-					if ( s.damage( radius / 2.0 + 8, s.getName() + ( Math.abs( getSpeed() ) > Math.abs( s.getSpeed() ) ? " was hit by" : " slammed into" ) + " an asteroid." ) )
-					{
-						split( s );
-						return;
-					}
-				}
-			}
-		}
+		if ( s.livesLeft() < 0 )
+			return;
 
-		// Go through ships, stations, etc.
-		for ( ShootingObject s : Game.getInstance().getObjectManager().getShootingObjects() )
-		{
-			for ( Weapon wm : s.getWeapons() )
-			{
-				// Loop through all this ship's Missiles.
-				for ( Unit m : wm.getUnits() )
-				{
-					// Were we hit by a missile?
-					if ( m.getDamage() > 0 && Util.getDistance( this, m ) < radius + m.getRadius() )
-					{
-						Sound.playInternal( SoundLibrary.ASTEROID_DIE );
-
-						m.explode();
-						life = Math.max( 0, life - m.getDamage() );
-						if ( life <= 0 )
-						{
-							split( s instanceof Ship ? (Ship) s : null );
-							return;
-						}
-					}
-				}
-			}
-		}
+		if ( s.damage( radius / 2.0 + 8, s.getName() + ( Math.abs( getSpeed() ) > Math.abs( s.getSpeed() ) ? " was hit by" : " slammed into" ) + " an asteroid." ) )
+			split( s );
+	}
+
+	/**
+	 * Returns whether a missile that touches us would hit us, rather than pass through.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public boolean canBeHitBy( Unit m )
+	{
+		return m.getDamage() > 0;
+	}
+
+	/**
+	 * Called by the <code>CollisionSystem</code> when a missile touches us.
+	 * 
+	 * @param m the missile
+	 * @param shooter the ship, station, etc. that fired it
+	 * @since October 18, 2026
+	 */
+	public void hitBy( Unit m, ShootingObject shooter )
+	{
+		if ( !canBeHitBy( m ) )
+			return;
+
+		Sound.playInternal( SoundLibrary.ASTEROID_DIE );
+
+		m.explode();
+		life = Math.max( 0, life - m.getDamage() );
+		if ( life <= 0 )
+			split( shooter instanceof Ship ? (Ship) shooter : null );
 	}
 
 	/**
@@ -192,11 +183,29 @@ public class Asteroid extends GameObject implements GameElement
 
 	}
 
+	/**
+	 * Asteroids just drift, so they're moved in bulk by the <code>ObjectManager</code>.
+	 */
+	@Override
+	protected boolean isIntegratedInBulk()
+	{
+		return true;
+	}
+
 	public int getRadius()
 	{
 		return radius;
 	}
 
+	/**
+	 * @since October 18, 2026
+	 */
+	@Override
+	public double getCollisionRadius()
+	{
+		return radius;
+	}
+
 	/**
 	 * Generates and returns a <code>String</code> representation of <code>this</code> It will have the form
 	 * "[Asteroid@(#,#), radius #]".
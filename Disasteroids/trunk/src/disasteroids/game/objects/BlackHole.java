@@ -8,14 +8,10 @@ import java.awt.Graphics;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
 
 import disasteroids.Util;
 import disasteroids.game.Game;
 import disasteroids.game.weapons.Unit;
-import disasteroids.game.weapons.Weapon;
 import disasteroids.gui.ImageLibrary;
 import disasteroids.gui.MainWindow;
 
@@ -29,7 +25,14 @@ public class BlackHole extends GameObject
 	/**
 	 * The radius of our attraction circle, in pixels.
 	 */
-	final static int ATTRACTION_RADIUS = 500;
+	public final static int ATTRACTION_RADIUS = 500;
+
+	/**
+	 * How close to our center something must get to be eaten, in pixels.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public final static int EATING_RADIUS = 35;
 
 	/**
 	 * The pulling power this black hole exerts, in pixels/second^2.
@@ -63,7 +66,7 @@ public class BlackHole extends GameObject
 	}
 
 	/**
-	 * Finds everything nearby - and SUUUCKS!
+	 * Spins and grows. The pulling (and eating) is done by the <code>GravitySystem</code>.
 	 */
 	public void act()
 	{
@@ -73,63 +76,51 @@ public class BlackHole extends GameObject
 		if ( creationTime < TOTAL_CREATION_TIME )
 			creationTime++;
 
-		// Find nearby objects.
-		Set<GameObject> victims = getNearbyVictims();
-
-		// Pull each one towards us.
-		for ( GameObject go : victims )
-		{
-			double angle = Util.getAngle( go, this );
-
-			double magnitude = getSizeMultiplier() * Math.min( Math.pow( power, 1.9 ) / Math.pow( Util.getDistance( this, go ), 1.7 ), 1 );
-			go.setVelocity( go.getDx() + magnitude * Math.cos( angle ), go.getDy() - magnitude * Math.sin( angle ) );
-
-			// Too close to the center! Destroy him!
-			if ( isPrey( go ) && Util.getDistance( this, go ) < 35 )
-			{
-				go.inBlackHole();
-				if ( numLeftToEat > 0 )
-				{
-					// Remove after we've eaten enough, for gameplay reasons.
-					if ( ( go instanceof Unit == false ) && ( --numLeftToEat == 0 ) )
-					{
-						Game.getInstance().getObjectManager().removeObject( this );
-						return;
-					}
-				}
-			}
-		}
-
 		if ( getSizeMultiplier() < 0 )
 			Game.getInstance().getObjectManager().removeObject( this );
 	}
 
 	/**
-	 * Returns a set of all nearby game objects.
-	 * @see BlackHole#ATTRACTION_RADIUS
+	 * Returns the pull we exert at a distance of one pixel, before it's capped. Falls off with
+	 * <code>distance ^ 1.7</code>.
+	 * 
+	 * @since October 18, 2026
 	 */
-	private Set<GameObject> getNearbyVictims()
+	public double getPower()
 	{
-		Set<GameObject> closeObjects = new HashSet<GameObject>();
-
-		// Add game objects.
-		for ( long id : Game.getInstance().getObjectManager().getAllIds() )
-			if ( Util.getDistance( this, Game.getInstance().getObjectManager().getObject( id ) ) < ATTRACTION_RADIUS )
-				closeObjects.add( Game.getInstance().getObjectManager().getObject( id ) );
-
-		// Add the units of weapons.
-		for ( ShootingObject s : Game.getInstance().getObjectManager().getShootingObjects() )
-			for ( Weapon w : s.getWeapons() )
-				for ( Unit u : w.getUnits() )
-					if ( Util.getDistance( this, u ) < ATTRACTION_RADIUS )
-						closeObjects.add( u );
-
-		// Remove anything that we shouldn't eat.
-		for ( Iterator<GameObject> i = closeObjects.iterator(); i.hasNext(); )
-			if ( !isPrey( i.next() ) )
-				i.remove();
-
-		return closeObjects;
+		return Math.pow( power, 1.9 );
+	}
+
+	/**
+	 * Returns how strong we are right now (from growing in, and from how much we've eaten), as a multiplier on our
+	 * pull.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public double getStrength()
+	{
+		return getSizeMultiplier();
+	}
+
+	/**
+	 * Destroys a victim that's reached our center. Called by the <code>GravitySystem</code>.
+	 * 
+	 * @return whether we're still here; false if we've eaten our fill and left
+	 * @since October 18, 2026
+	 */
+	public boolean eat( GameObject go )
+	{
+		go.inBlackHole();
+		if ( numLeftToEat > 0 )
+		{
+			// Remove after we've eaten enough, for gameplay reasons.
+			if ( ( go instanceof Unit == false ) && ( --numLeftToEat == 0 ) )
+			{
+				Game.getInstance().getObjectManager().removeObject( this );
+				return false;
+			}
+		}
+		return true;
 	}
 
 	private double getSizeMultiplier()
@@ -148,7 +139,7 @@ public class BlackHole extends GameObject
 	 * Returns whether we should attract <code>victim</code>.
 	 * Normally true, except for things like invincible ships and other black holes.
 	 */
-	private boolean isPrey( GameObject victim )
+	public boolean isPrey( GameObject victim )
 	{
 		return !( victim == this || victim instanceof Ship && ( (Ship) victim ).cannotDie() || victim instanceof BlackHole );
 	}
@@ -20,7 +20,6 @@ import disasteroids.Util;
 import disasteroids.game.Game;
 import disasteroids.gui.Local;
 import disasteroids.gui.MainWindow;
-import disasteroids.gui.Particle;
 import disasteroids.gui.ParticleManager;
 import disasteroids.gui.RelativeGraphics;
 import disasteroids.networking.Server;
@@ -88,9 +87,26 @@ public class Bonus extends GameObject
 		this( x, y, Util.getGameplayRandomGenerator().nextDouble() * 2 - 1, Util.getGameplayRandomGenerator().nextDouble() * 2 - 1 );
 	}
 
+	/**
+	 * Bonuses are moved in bulk by the <code>ObjectManager</code>; we just adjust our velocity.
+	 */
+	@Override
+	protected boolean isIntegratedInBulk()
+	{
+		return true;
+	}
+
+	/**
+	 * @since October 18, 2026
+	 */
+	@Override
+	public double getCollisionRadius()
+	{
+		return RADIUS + ( Class.values()[bonusClass] == Class.WEAPON ? 3 : 0 );
+	}
+
 	public void act()
 	{
-		move();
 		setSpeed( Math.min( 6, getDx() + ax ), Math.min( 6, getDy() + ay ) );
 		decelerate( .999 );
 		ax *= 0.98;
@@ -122,39 +138,30 @@ public class Bonus extends GameObject
 		{
 			Game.getInstance().getObjectManager().removeObject( this );
 			for ( int i = 0; i < 500; i++ )
-				ParticleManager.addParticle( new Particle( getX() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, getY() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, Util.getGameplayRandomGenerator().nextInt( 8 ), Color.getHSBColor(
-						bonusType / 9.0f, 1f, .7f ), Util.getGameplayRandomGenerator().nextDouble() * 5, Util.getGameplayRandomGenerator().nextAngle(), 40, 2 ) );
+				ParticleManager.addParticle( getX() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, getY() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, Util.getGameplayRandomGenerator().nextInt( 8 ), Color.HSBtoRGB(
+						bonusType / 9.0f, 1f, .7f ), Util.getGameplayRandomGenerator().nextDouble() * 5, Util.getGameplayRandomGenerator().nextAngle(), 40, 2 );
 			Sound.playInternal( SoundLibrary.BONUS_FIZZLE );
 		}
-		checkCollision();
 		for ( int i = 0; i < 3; i++ )
-			ParticleManager.addParticle( new Particle( getX() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, getY() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, Util.getGameplayRandomGenerator().nextInt( 4 ), Color.getHSBColor(
-					lastHue, lastHB, 1 - lastHB ), Util.getGameplayRandomGenerator().nextDouble() * 3, Util.getGameplayRandomGenerator().nextAngle(), 50, 1 ) );
+			ParticleManager.addParticle( getX() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, getY() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, Util.getGameplayRandomGenerator().nextInt( 4 ), Color.HSBtoRGB(
+					lastHue, lastHB, 1 - lastHB ), Util.getGameplayRandomGenerator().nextDouble() * 3, Util.getGameplayRandomGenerator().nextAngle(), 50, 1 );
 		angle = ( angle + 0.03 ) % ( 2 * Math.PI );
 	}
 
 	/**
-	 * Checks, and acts, if we were picked up by a ship.
+	 * Called by the <code>CollisionSystem</code> when a ship touches us.
 	 * 
 	 * @since March 12, 2008
 	 */
-	private void checkCollision()
+	public void pickedUpBy( Ship s )
 	{
-		// Go through all of the ships.
-		for ( Ship s : Game.getInstance().getObjectManager().getPlayers() )
+		if ( s.livesLeft() < 0 )
+			return;
+
+		if ( applyBonus( s ) )
 		{
-			// Were we hit by the ship's body?
-			if ( s.livesLeft() >= 0 )
-			{
-				if ( Util.getDistance( this, s ) < RADIUS + ( Class.values()[bonusClass] == Class.WEAPON ? 3 : 0 ) + s.getRadius() )
-				{
-					if ( applyBonus( s ) )
-					{
-						Sound.playInternal( SoundLibrary.GET_BONUS );
-						Game.getInstance().getObjectManager().removeObject( this );
-					}
-				}
-			}
+			Sound.playInternal( SoundLibrary.GET_BONUS );
+			Game.getInstance().getObjectManager().removeObject( this );
 		}
 	}
 
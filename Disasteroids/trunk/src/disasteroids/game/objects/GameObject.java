@@ -8,8 +8,11 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
+import disasteroids.Util;
 import disasteroids.game.Game;
 import disasteroids.game.GameElement;
+import disasteroids.game.KinematicsStore;
+import disasteroids.game.ObjectManager;
 import disasteroids.networking.Client;
 
 /**
@@ -25,10 +28,35 @@ public abstract class GameObject implements GameElement
 	private long id;
 
 	/**
-	 * Our location and speed data.
+	 * Our location and speed data, used until we're added to the game (and after we're removed). In between, it lives
+	 * in the <code>ObjectManager</code>'s <code>KinematicsStore</code>.
 	 */
 	private double x, y, dx, dy;
 
+	/**
+	 * The store holding our location and speed while we're in the game, and our slot in it; <code>null</code> when
+	 * we're not. Read once into a local by each accessor, so other threads always see a matching store and slot.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private volatile KinematicsStore.Handle kinematics = null;
+
+	/**
+	 * Our index in each of the <code>ObjectManager</code>'s registries, plus one (so zero means we're not in it).
+	 * Created when we're first registered, since weapon units never are.
+	 * 
+	 * @see disasteroids.game.EntityRegistry
+	 * @since October 18, 2026
+	 */
+	private int[] registrySlots = null;
+
+	/**
+	 * Whether we've been removed from the game. During a step, removed objects linger until the step is over.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private boolean removed = false;
+
 	public GameObject()
 	{
 		if ( !Client.is() )
@@ -55,6 +83,95 @@ public abstract class GameObject implements GameElement
 		return true;
 	}
 
+	/**
+	 * Returns whether we simply drift, so the <code>ObjectManager</code> should move us (along with everything else
+	 * that drifts) before the step, instead of us calling <code>move()</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	protected boolean isIntegratedInBulk()
+	{
+		return false;
+	}
+
+	/**
+	 * Returns the radius of a circle (centered on our location) that holds everything we can collide with. Used to
+	 * put us in the <code>SpatialGrid</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public double getCollisionRadius()
+	{
+		return 0;
+	}
+
+	/**
+	 * Returns whether we overlap the given object, treating it as a circle of radius <code>getCollisionRadius</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public boolean isTouching( GameObject other )
+	{
+		return isTouching( other.getX(), other.getY(), other.getCollisionRadius() );
+	}
+
+	/**
+	 * Returns whether we overlap a circle at the given location. By default, we're a circle of radius
+	 * <code>getCollisionRadius</code>; objects with other shapes override this.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public boolean isTouching( double x, double y, double radius )
+	{
+		return Util.getDistance( this, x, y ) < getCollisionRadius() + radius;
+	}
+
+	/**
+	 * Returns whether a circle that just moved in a straight line, ending up at the given location, overlapped us
+	 * anywhere along the way. Objects that override <code>isTouching</code> override this to match.
+	 * 
+	 * @param moveX how far the circle moved, relative to us
+	 * @param moveY how far the circle moved, relative to us
+	 * @since October 18, 2026
+	 */
+	public boolean isTouchingPath( double x, double y, double moveX, double moveY, double radius )
+	{
+		return Util.pathTouchesCircle( Util.getDeltaX( x, getX() ), Util.getDeltaY( y, getY() ), moveX, moveY, getCollisionRadius() + radius );
+	}
+
+	/**
+	 * Moves our location and speed into the given store. Called when we're added to the game.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public void attachKinematics( KinematicsStore store )
+	{
+		if ( kinematics != null )
+			return;
+
+		kinematics = store.allocate( x, y, dx, dy, isIntegratedInBulk() );
+	}
+
+	/**
+	 * Moves our location and speed back out of the store. Called when we're removed from the game.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public void detachKinematics()
+	{
+		KinematicsStore.Handle k = kinematics;
+		if ( k == null )
+			return;
+
+		// Copy our values out before letting go of the handle, so anyone who sees it gone sees them.
+		x = k.store.getX( k.slot );
+		y = k.store.getY( k.slot );
+		dx = k.store.getDx( k.slot );
+		dy = k.store.getDy( k.slot );
+		kinematics = null;
+		k.store.release( k.slot );
+	}
+
 	/**
 	 * Updates our <code>x</code> and <code>y</code> based on our velocity (<code>dx</code> and <code>dy</code>).
 	 * 
@@ -79,7 +196,54 @@ public abstract class GameObject implements GameElement
 
 	public double getDx()
 	{
-		return dx;
+		KinematicsStore.Handle k = kinematics;
+		return ( k == null ) ? dx : k.store.getDx( k.slot );
+	}
+
+	/**
+	 * Returns whether we've been removed from the game (perhaps pending the end of this step).
+	 * 
+	 * @since October 18, 2026
+	 */
+	public boolean isRemoved()
+	{
+		return removed;
+	}
+
+	/**
+	 * Marks whether we've been removed from the game. Only <code>ObjectManager</code> should call this.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public void setRemoved( boolean removed )
+	{
+		this.removed = removed;
+	}
+
+	/**
+	 * Returns our index in the given registry, or -1 if we're not in it. Only <code>EntityRegistry</code> should need
+	 * this.
+	 * 
+	 * @param registry one of the <code>ObjectManager.REGISTRY_*</code> constants
+	 * @since October 18, 2026
+	 */
+	public int getRegistrySlot( int registry )
+	{
+		return ( registrySlots == null ) ? -1 : registrySlots[registry] - 1;
+	}
+
+	/**
+	 * Sets our index in the given registry (-1 for none). Only <code>EntityRegistry</code> should call this.
+	 * 
+	 * @param registry one of the <code>ObjectManager.REGISTRY_*</code> constants
+	 * @param slot our index in it
+	 * @since October 18, 2026
+	 */
+	public void setRegistrySlot( int registry, int slot )
+	{
+		if ( registrySlots == null )
+			registrySlots = new int[ObjectManager.REGISTRY_COUNT];
+		registrySlots[registry] = slot + 1;
 	}
 
 	/**
@@ -102,22 +266,32 @@ public abstract class GameObject implements GameElement
 
 	public void setDx( double dx )
 	{
-		this.dx = dx;
+		KinematicsStore.Handle k = kinematics;
+		if ( k == null )
+			this.dx = dx;
+		else
+			k.store.setDx( k.slot, dx );
 	}
 
 	public double getDy()
 	{
-		return dy;
+		KinematicsStore.Handle k = kinematics;
+		return ( k == null ) ? dy : k.store.getDy( k.slot );
 	}
 
 	public void setDy( double dy )
 	{
-		this.dy = dy;
+		KinematicsStore.Handle k = kinematics;
+		if ( k == null )
+			this.dy = dy;
+		else
+			k.store.setDy( k.slot, dy );
 	}
 
 	public double getX()
 	{
-		return x;
+		KinematicsStore.Handle k = kinematics;
+		return ( k == null ) ? x : k.store.getX( k.slot );
 	}
 
 	/**
@@ -158,7 +332,12 @@ public abstract class GameObject implements GameElement
 
 	public void setX( double x )
 	{
-		this.x = ( x + Game.getInstance().GAME_WIDTH ) % Game.getInstance().GAME_WIDTH;
+		x = KinematicsStore.wrap( x, Game.getInstance().GAME_WIDTH );
+		KinematicsStore.Handle k = kinematics;
+		if ( k == null )
+			this.x = x;
+		else
+			k.store.setX( k.slot, x );
 	}
 
 	public void addToX( double addX )
@@ -168,12 +347,18 @@ public abstract class GameObject implements GameElement
 
 	public double getY()
 	{
-		return y;
+		KinematicsStore.Handle k = kinematics;
+		return ( k == null ) ? y : k.store.getY( k.slot );
 	}
 
 	public void setY( double y )
 	{
-		this.y = ( y + Game.getInstance().GAME_HEIGHT ) % Game.getInstance().GAME_HEIGHT;
+		y = KinematicsStore.wrap( y, Game.getInstance().GAME_HEIGHT );
+		KinematicsStore.Handle k = kinematics;
+		if ( k == null )
+			this.y = y;
+		else
+			k.store.setY( k.slot, y );
 	}
 
 	public void addToY( double addY )
@@ -32,7 +32,6 @@ import disasteroids.game.weapons.Unit;
 import disasteroids.game.weapons.Weapon;
 import disasteroids.gui.Local;
 import disasteroids.gui.MainWindow;
-import disasteroids.gui.Particle;
 import disasteroids.gui.ParticleManager;
 import disasteroids.networking.Server;
 import disasteroids.networking.ServerCommands;
@@ -229,7 +228,8 @@ public class Ship extends ShootingObject
 			{
 				if ( getActiveWeapon().getAmmo() == 0 )
 				{
-					Local.getStarBackground().writeOnBackground( "Out of ammo for " + getActiveWeapon().getName() + ".", (int) getX(), (int) getY() - 5, myColor );
+					if ( !Local.isStuffNull() )
+						Local.getStarBackground().writeOnBackground( "Out of ammo for " + getActiveWeapon().getName() + ".", (int) getX(), (int) getY() - 5, myColor );
 					Main.log( "Out of ammo for " + getActiveWeapon().getName() + "." );
 					rotateWeapons();
 					shooting = false;
@@ -245,7 +245,6 @@ public class Ship extends ShootingObject
 				repair();
 			else if ( repairCount > 0 )
 				repairCount--;
-			checkCollision();
 			generateParticles();
 			move();
 		}
@@ -256,9 +255,9 @@ public class Ship extends ShootingObject
 			// Create particles.
 			for ( int i = 0; i < explosionTime / 12; i++ )
 			{
-				ParticleManager.addParticle( new Particle( getX() + Util.getGameplayRandomGenerator().nextInt( 16 ) - 8 - RADIUS, getY() + Util.getGameplayRandomGenerator().nextInt( 16 ) - 8 - RADIUS,
+				ParticleManager.addParticle( getX() + Util.getGameplayRandomGenerator().nextInt( 16 ) - 8 - RADIUS, getY() + Util.getGameplayRandomGenerator().nextInt( 16 ) - 8 - RADIUS,
 						Util.getGameplayRandomGenerator().nextInt( 4 ) + 3, Util.getGameplayRandomGenerator().nextBoolean() ? myColor : myInvicibleColor, Util.getGameplayRandomGenerator().nextDouble() * 6, Util.getGameplayRandomGenerator()
-								.nextAngle(), 25 + explosionTime / 10, 10 ) );
+								.nextAngle(), 25 + explosionTime / 10, 10 );
 			}
 		}
 
@@ -274,12 +273,19 @@ public class Ship extends ShootingObject
 		        }*/
 	}
 
+	/**
+	 * @since October 18, 2026
+	 */
 	@Override
-	public void draw( Graphics g )
+	public void drawWeapons( Graphics g )
 	{
-		super.draw( g );
+		super.drawWeapons( g );
 		sniperManager.draw( g );
+	}
 
+	@Override
+	public void draw( Graphics g )
+	{
 		if ( livesLeft < 0 )
 			return;
 
@@ -422,40 +428,45 @@ public class Ship extends ShootingObject
 		return "Shield";
 	}
 
-	private void checkCollision()
+	/**
+	 * Returns whether a missile that touches us would hit us, rather than pass through.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public boolean canBeHitBy( Unit m )
 	{
-		for ( ShootingObject other : Game.getInstance().getObjectManager().getShootingObjects() )
-		{
-			if ( other == this )
-				continue;
+		return inBlackHoleTimer <= 0 && livesLeft >= 0 && !cannotDie();
+	}
+
+	/**
+	 * Called by the <code>CollisionSystem</code> when someone else's missile touches us.
+	 * 
+	 * @param m the missile
+	 * @param other the ship, station, etc. that fired it
+	 * @since October 18, 2026
+	 */
+	public void hitBy( Unit m, ShootingObject other )
+	{
+		if ( !canBeHitBy( m ) )
+			return;
+
+		String obit = "";
+		if ( other instanceof Ship )
+			obit = getName() + " was blasted by " + ( (Ship) other ).getName() + ".";
+		else if ( other instanceof Station )
+			obit = getName() + " was shot down by a satellite.";
+		else if ( other instanceof Alien )
+			obit = getName() + " was scanned unsuccessfully for intelligent lifeforms.";
 
-			for ( Weapon wm : other.getWeapons() )
+		if ( damage( m.getDamage(), obit ) )
+		{
+			m.explode();
+			if ( other.getClass().isInstance( this ) )
 			{
-				for ( Unit m : wm.getUnits() )
-				{
-					if ( Util.getDistance( this, m ) < RADIUS + m.getRadius() )
-					{
-						String obit = "";
-						if ( other instanceof Ship )
-							obit = getName() + " was blasted by " + ( (Ship) other ).getName() + ".";
-						else if ( other instanceof Station )
-							obit = getName() + " was shot down by a satellite.";
-						else if ( other instanceof Alien )
-							obit = getName() + " was scanned unsuccessfully for intelligent lifeforms.";
-
-						if ( damage( m.getDamage(), obit ) )
-						{
-							m.explode();
-							if ( other.getClass().isInstance( this ) )
-							{
-								Ship s = (Ship) other;
-								s.score += 500;
-								s.numShipsKilled++;
-								s.livesLeft++;
-							}
-						}
-					}
-				}
+				Ship s = (Ship) other;
+				s.score += 500;
+				s.numShipsKilled++;
+				s.livesLeft++;
 			}
 		}
 	}
@@ -480,12 +491,12 @@ public class Ship extends ShootingObject
 			particleRateBackward = Math.max( 0, particleRateBackward - 0.03 );
 
 		for ( int i = 0; i < (int) ( particleRateForward * 3 ); i++ )
-			ParticleManager.addParticle( new Particle( -15 * Math.cos( angle ) + getX() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, 15 * Math.sin( angle ) + getY() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, Util
-					.getGameplayRandomGenerator().nextInt( 4 ) + 3, myColor, Util.getGameplayRandomGenerator().nextDouble() * 4, angle + Util.getGameplayRandomGenerator().nextDouble() * .4 - .2 + Math.PI, 30, 10 ) );
+			ParticleManager.addParticle( -15 * Math.cos( angle ) + getX() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, 15 * Math.sin( angle ) + getY() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, Util
+					.getGameplayRandomGenerator().nextInt( 4 ) + 3, myColor, Util.getGameplayRandomGenerator().nextDouble() * 4, angle + Util.getGameplayRandomGenerator().nextDouble() * .4 - .2 + Math.PI, 30, 10 );
 
 		for ( int i = 0; i < (int) ( particleRateBackward * 3 ); i++ )
-			ParticleManager.addParticle( new Particle( 15 * Math.cos( angle ) + getX() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, -15 * Math.sin( angle ) + getY() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, Util
-					.getGameplayRandomGenerator().nextInt( 4 ) + 3, myColor, Util.getGameplayRandomGenerator().nextDouble() * 4, angle + Util.getGameplayRandomGenerator().nextDouble() * .4 - .2, 30, 10 ) );
+			ParticleManager.addParticle( 15 * Math.cos( angle ) + getX() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, -15 * Math.sin( angle ) + getY() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, Util
+					.getGameplayRandomGenerator().nextInt( 4 ) + 3, myColor, Util.getGameplayRandomGenerator().nextDouble() * 4, angle + Util.getGameplayRandomGenerator().nextDouble() * .4 - .2, 30, 10 );
 
 	}
 
@@ -587,7 +598,8 @@ public class Ship extends ShootingObject
 		{
 			repairCount = 100;
 			Sound.playInternal( SoundLibrary.SHIP_HIT );
-			MainWindow.frame().rumble( amount * 2 / 3.0 );
+			if ( MainWindow.frame() != null )
+				MainWindow.frame().rumble( amount * 2 / 3.0 );
 			return true;
 		}
 
@@ -599,14 +611,15 @@ public class Ship extends ShootingObject
 		{
 			health = healthMax = 100;
 			setInvincibilityCount( 300 );
-			MainWindow.frame().rumble( 30 );
+			if ( MainWindow.frame() != null )
+				MainWindow.frame().rumble( 30 );
 			Sound.playInternal( SoundLibrary.SHIP_DIE );
 
 			// Create particles.
 			for ( int i = 0; i < 80; i++ )
 			{
-				ParticleManager.addParticle( new Particle( getX() + Util.getGameplayRandomGenerator().nextInt( 16 ) - 8 - RADIUS, getY() + Util.getGameplayRandomGenerator().nextInt( 16 ) - 8 - RADIUS,
-						Util.getGameplayRandomGenerator().nextInt( 4 ) + 3, myColor, Util.getGameplayRandomGenerator().nextDouble() * 6, Util.getGameplayRandomGenerator().nextAngle(), 30, 10 ) );
+				ParticleManager.addParticle( getX() + Util.getGameplayRandomGenerator().nextInt( 16 ) - 8 - RADIUS, getY() + Util.getGameplayRandomGenerator().nextInt( 16 ) - 8 - RADIUS,
+						Util.getGameplayRandomGenerator().nextInt( 4 ) + 3, myColor, Util.getGameplayRandomGenerator().nextDouble() * 6, Util.getGameplayRandomGenerator().nextAngle(), 30, 10 );
 			}
 		} // We lost the game.
 		else
@@ -614,15 +627,16 @@ public class Ship extends ShootingObject
 			invincibilityCount = Integer.MAX_VALUE;
 			explosionTime = 160;
 			setBrake( true );
-			MainWindow.frame().rumble( 85 );
+			if ( MainWindow.frame() != null )
+				MainWindow.frame().rumble( 85 );
 			if ( Settings.isSoundOn() && this == Local.getLocalPlayer() )
 				Sound.playInternal( SoundLibrary.GAME_OVER );
 
 			// Create lots of particles.
 			for ( int i = 0; i < 500; i++ )
 			{
-				ParticleManager.addParticle( new Particle( getX() + Util.getGameplayRandomGenerator().nextInt( 16 ) - 8 - RADIUS, getY() + Util.getGameplayRandomGenerator().nextInt( 16 ) - 8 - RADIUS,
-						Util.getGameplayRandomGenerator().nextInt( 4 ) + 3, myColor, Util.getGameplayRandomGenerator().nextDouble() * 4, Util.getGameplayRandomGenerator().nextAngle(), 60, 5 ) );
+				ParticleManager.addParticle( getX() + Util.getGameplayRandomGenerator().nextInt( 16 ) - 8 - RADIUS, getY() + Util.getGameplayRandomGenerator().nextInt( 16 ) - 8 - RADIUS,
+						Util.getGameplayRandomGenerator().nextInt( 4 ) + 3, myColor, Util.getGameplayRandomGenerator().nextDouble() * 4, Util.getGameplayRandomGenerator().nextAngle(), 60, 5 );
 			}
 		}
 
@@ -674,7 +688,8 @@ public class Ship extends ShootingObject
 	{
 		if ( getActiveWeapon().getAmmo() == 0 )
 		{
-			Local.getStarBackground().writeOnBackground( "Out of ammo for " + getActiveWeapon().getName() + ".", (int) getX(), (int) getY() - 5, myColor );
+			if ( !Local.isStuffNull() )
+				Local.getStarBackground().writeOnBackground( "Out of ammo for " + getActiveWeapon().getName() + ".", (int) getX(), (int) getY() - 5, myColor );
 			Main.log( "Out of ammo for " + getActiveWeapon().getName() + "." );
 			rotateWeapons();
 		}
@@ -860,8 +875,8 @@ public class Ship extends ShootingObject
 		strafeSpeed += ( toRight ? 1 : -1 ) * 7;
 
 		for ( int i = 0; i < 9; i++ )
-			ParticleManager.addParticle( new Particle( getX() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, getY() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, Util.getGameplayRandomGenerator().nextInt( 4 ) + 3, myColor, Util
-					.getGameplayRandomGenerator().nextDouble() * 4, angle + Util.getGameplayRandomGenerator().nextDouble() * .8 - .2 + Math.PI, 35, 35 ) );
+			ParticleManager.addParticle( getX() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, getY() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, Util.getGameplayRandomGenerator().nextInt( 4 ) + 3, myColor, Util
+					.getGameplayRandomGenerator().nextDouble() * 4, angle + Util.getGameplayRandomGenerator().nextDouble() * .8 - .2 + Math.PI, 35, 35 );
 
 		if ( Server.is() )
 			ServerCommands.strafe( getId(), toRight );
@@ -883,6 +898,36 @@ public class Ship extends ShootingObject
 		return shielded > 0 ? RADIUS + 5 : RADIUS;
 	}
 
+	/**
+	 * @since October 18, 2026
+	 */
+	@Override
+	public double getCollisionRadius()
+	{
+		return getRadius();
+	}
+
+	/**
+	 * Only units check against us this way (whatever we run into checks against our collision radius), and they hit
+	 * our hull, shielded or not.
+	 * 
+	 * @since October 18, 2026
+	 */
+	@Override
+	public boolean isTouching( double x, double y, double radius )
+	{
+		return Util.getDistance( this, x, y ) < RADIUS + radius;
+	}
+
+	/**
+	 * @since October 18, 2026
+	 */
+	@Override
+	public boolean isTouchingPath( double x, double y, double moveX, double moveY, double radius )
+	{
+		return Util.pathTouchesCircle( Util.getDeltaX( x, getX() ), Util.getDeltaY( y, getY() ), moveX, moveY, RADIUS + radius );
+	}
+
 	/**
 	 * Switches to the given weapon slot, if it has ammo.
 	 * Note: Slot is 0-based.
@@ -40,7 +40,18 @@ public abstract class ShootingObject extends GameObject implements GameElement
 		getActiveWeapon().reload();
 	}
 
-	public void draw( Graphics g )
+	/**
+	 * Draws us, but not our weapons' units; see <code>drawWeapons</code>.
+	 */
+	public abstract void draw( Graphics g );
+
+	/**
+	 * Draws our weapons' units. Kept apart from <code>draw</code> because they move on their own, so they mustn't be
+	 * shifted along with us when we're drawn between ticks.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public void drawWeapons( Graphics g )
 	{
 		for ( Weapon wm : weapons )
 			wm.draw( g );
@@ -12,9 +12,9 @@ import java.io.IOException;
 
 import disasteroids.Util;
 import disasteroids.game.Game;
+import disasteroids.game.ObjectManager;
 import disasteroids.game.weapons.MissileManager;
 import disasteroids.game.weapons.Unit;
-import disasteroids.game.weapons.Weapon;
 import disasteroids.gui.ImageLibrary;
 import disasteroids.gui.MainWindow;
 import disasteroids.gui.ParticleManager;
@@ -82,7 +82,6 @@ public class Station extends ShootingObject
 	{
 		super.act();
 		move();
-		checkCollision();
 
 		angle %= 2 * Math.PI; // Make sure the angle does not grow without bound
 
@@ -135,62 +134,71 @@ public class Station extends ShootingObject
 	}
 
 	/**
-	 * Checks if players run into us and takes action.
+	 * Covers the corners of our box.
 	 * 
-	 * @since January 9, 2007
+	 * @since October 18, 2026
 	 */
-	private void checkCollision()
+	@Override
+	public double getCollisionRadius()
 	{
-		// Check for missile collision.
-		for ( ShootingObject s : Game.getInstance().getObjectManager().getShootingObjects() )
-		{
-			if ( s == this )
-				continue;
+		return size * 0.75;
+	}
 
-			// Loop through the mangers.
-			for ( Weapon wm : s.getWeapons() )
-			{
-				// Loop through the bullets.
-				for ( Unit m : wm.getUnits() )
-				{
-					// Were we hit by a bullet?
-					if ( ( m.getX() + m.getRadius() > getX() - size / 2 && m.getX() - m.getRadius() < getX() + size / 2 ) && ( m.getY() + m.getRadius() > getY() - size / 2 && m.getY() - m.getRadius() < getY() + size / 2 ) )
-					{
-						health -= m.getDamage();
-						m.explode();
-
-						if ( health < 0 )
-						{
-							destroy();
-							if ( s instanceof Ship )
-								( (Ship) s ).increaseScore( 2500 );
-							return;
-						}
-					}
-				}
-			}
-		}
+	/**
+	 * We're a box, centered on our location.
+	 * 
+	 * @since October 18, 2026
+	 */
+	@Override
+	public boolean isTouching( double x, double y, double radius )
+	{
+		return ( x + radius > getX() - size / 2 && x - radius < getX() + size / 2 ) && ( y + radius > getY() - size / 2 && y - radius < getY() + size / 2 );
+	}
 
-		if ( isDisabled() )
-			return;
+	/**
+	 * @since October 18, 2026
+	 */
+	@Override
+	public boolean isTouchingPath( double x, double y, double moveX, double moveY, double radius )
+	{
+		return Util.pathTouchesBox( x, y, moveX, moveY, getX() - size / 2 - radius, getY() - size / 2 - radius, getX() + size / 2 + radius, getY() + size / 2 + radius );
+	}
 
-		// Check for ship collision.
-		for ( Ship s : Game.getInstance().getObjectManager().getPlayers() )
+	/**
+	 * Called by the <code>CollisionSystem</code> when someone else's missile touches us.
+	 * 
+	 * @param m the missile
+	 * @param s the ship, station, etc. that fired it
+	 * @since October 18, 2026
+	 */
+	public void hitBy( Unit m, ShootingObject s )
+	{
+		health -= m.getDamage();
+		m.explode();
+
+		if ( health < 0 )
 		{
-			// Were we hit by the ship's body?
-			if ( s.livesLeft() >= 0 )
-			{
-				if ( ( s.getX() + s.getRadius() > getX() - size / 2 && s.getX() - s.getRadius() < getX() + size / 2 ) && ( s.getY() + s.getRadius() > getY() - size / 2 && s.getY() - s.getRadius() < getY() + size / 2 ) )
-				{
-					if ( s.damage( 60, s.getName() + " learns to steer." ) )
-						return;
-				}
-			}
+			destroy();
+			if ( s instanceof Ship )
+				( (Ship) s ).increaseScore( 2500 );
 		}
 	}
 
 	/**
-	 * Draws this and our bullets to the given context. Uses RelativeGraphics.
+	 * Called by the <code>CollisionSystem</code> when a player runs into us.
+	 * 
+	 * @since January 9, 2007
+	 */
+	public void rammedBy( Ship s )
+	{
+		if ( isDisabled() || s.livesLeft() < 0 )
+			return;
+
+		s.damage( 60, s.getName() + " learns to steer." );
+	}
+
+	/**
+	 * Draws this to the given context. Uses RelativeGraphics.
 	 */
 	@Override
 	public void draw( Graphics g )
@@ -201,8 +209,6 @@ public class Station extends ShootingObject
 
 		MainWindow.frame().drawImage( g, ImageLibrary.getStation(), (int) getX(), (int) getY(), 0.0, 1.0 );
 		MainWindow.frame().drawImage( g, ImageLibrary.getStationTurret(), (int) getX(), (int) getY(), angle, 1.0 );
-
-		super.draw( g );
 	}
 
 	@Override
@@ -312,21 +318,7 @@ public class Station extends ShootingObject
 
 	private Ship findClosestShip( int range )
 	{
-		Ship closestShip = null;
-		Ship closestInvincible = null;
-		for ( Ship s : Game.getInstance().getObjectManager().getPlayers() )
-		{
-			if ( Util.getDistance( this, s ) < range )
-			{
-				if ( closestShip == null || Util.getDistance( this, s ) > Util.getDistance( this, closestShip ) )
-					closestShip = s;
-				if ( closestInvincible == null || Util.getDistance( this, s ) > Util.getDistance( this, closestInvincible ) )
-					closestInvincible = s;
-			}
-		}
-		if ( closestShip == null && closestInvincible != null )
-			closestShip = closestInvincible;
-		return closestShip;
+		return (Ship) Game.getInstance().getObjectManager().nearest( getX(), getY(), range, ObjectManager.QUERY_PLAYERS, null );
 	}
 
 }
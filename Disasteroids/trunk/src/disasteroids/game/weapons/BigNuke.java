@@ -12,7 +12,6 @@ import java.io.IOException;
 
 import disasteroids.Util;
 import disasteroids.gui.MainWindow;
-import disasteroids.gui.Particle;
 import disasteroids.gui.ParticleManager;
 
 /**
@@ -52,8 +51,8 @@ public class BigNuke extends Unit
 		ay *= 0.98;
 
 		for ( int i = 0; i < 18; i++ )
-			ParticleManager.addParticle( new Particle( getX() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, getY() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, Util.getGameplayRandomGenerator().nextInt( 4 ), color, Util
-					.getGameplayRandomGenerator().nextDouble(), Util.getGameplayRandomGenerator().nextAngle(), 20, 1 ) );
+			ParticleManager.addParticle( getX() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, getY() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4, Util.getGameplayRandomGenerator().nextInt( 4 ), color, Util
+					.getGameplayRandomGenerator().nextDouble(), Util.getGameplayRandomGenerator().nextAngle(), 20, 1 );
 
 		if ( age > 30 )
 		{
@@ -59,14 +59,14 @@ public class BigNukeCharge extends Unit
 
 		/*  // Emit a few particles.
 		  if ( Util.getGameplayRandomGenerator().nextInt( 3 ) == 0 )
-		      ParticleManager.addParticle( new Particle(
+		      ParticleManager.addParticle( 
 		              getX() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4,
 		              getY() + Util.getGameplayRandomGenerator().nextInt( 8 ) - 4,
 		              Util.getGameplayRandomGenerator().nextInt( 4 ),
 		              color,
 		              Util.getGameplayRandomGenerator().nextDouble(),
 		              Util.getGameplayRandomGenerator().nextAngle(),
-		              20, 1 ) );*/
+		              20, 1 );*/
 
 		// Waning.
 		if ( isReducing )
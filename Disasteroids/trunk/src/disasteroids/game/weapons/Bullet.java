@@ -16,7 +16,7 @@ import disasteroids.gui.MainWindow;
  * A fast and simple bullet that dies on impact.
  * @author Andy Kooiman
  */
-class Bullet extends Unit
+class Bullet extends Projectile
 {
 	private BulletManager parent;
 
@@ -26,6 +26,16 @@ class Bullet extends Unit
 		this.parent = parent;
 	}
 
+	/**
+	 * Brings a recycled bullet back into play, as if it were new.
+	 * 
+	 * @since October 18, 2026
+	 */
+	void reinit( Color color, double x, double y, double dx, double dy, double angle )
+	{
+		reset( color, x, y, dx + parent.getSpeed() * Math.cos( angle ), dy - parent.getSpeed() * Math.sin( angle ) );
+	}
+
 	@Override
 	public void act()
 	{
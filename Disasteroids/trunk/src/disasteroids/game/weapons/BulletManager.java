@@ -20,6 +20,13 @@ import disasteroids.sound.SoundLibrary;
  */
 public class BulletManager extends Weapon
 {
+	/**
+	 * Our removed bullets, kept to be fired again.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private final UnitPool<Bullet> pool = new UnitPool<Bullet>( 256 );
+
 	private int speed = 20;
 
 	// Bonus IDs.
@@ -51,13 +58,13 @@ public class BulletManager extends Weapon
 		if ( !canShoot() )
 			return;
 
-		addUnit( new Bullet( this, color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle ) );
+		addUnit( createBullet( color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle ) );
 
 		// This bonus fires two extra bullets at an angle.
 		if ( getBonusValue( BONUS_THREEWAYSHOT ).getValue() == 1 )
 		{
-			addUnit( new Bullet( this, color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle + Math.PI / 8 ) );
-			addUnit( new Bullet( this, color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle - Math.PI / 8 ) );
+			addUnit( createBullet( color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle + Math.PI / 8 ) );
+			addUnit( createBullet( color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle - Math.PI / 8 ) );
 		}
 
 		if ( !isInfiniteAmmo() )
@@ -76,7 +83,7 @@ public class BulletManager extends Weapon
 			if ( !canBerserk() )
 				break;
 
-			addUnit( new Bullet( this, color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle ) );
+			addUnit( createBullet( color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle ) );
 
 			if ( !isInfiniteAmmo() )
 				--ammo;
@@ -91,6 +98,27 @@ public class BulletManager extends Weapon
 		}
 	}
 
+	/**
+	 * Returns a bullet to fire, reusing a removed one if we can.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private Bullet createBullet( Color color, double x, double y, double dx, double dy, double angle )
+	{
+		Bullet u = pool.obtain();
+		if ( u == null )
+			return new Bullet( this, color, x, y, dx, dy, angle );
+
+		u.reinit( color, x, y, dx, dy, angle );
+		return u;
+	}
+
+	@Override
+	protected void recycle( Unit u )
+	{
+		pool.release( (Bullet) u );
+	}
+
 	@Override
 	public int getMaxUnits()
 	{
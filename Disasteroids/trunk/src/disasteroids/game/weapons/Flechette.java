@@ -16,7 +16,7 @@ import disasteroids.gui.MainWindow;
  * A weak particle fired in the dozens.
  * @author Andy Kooiman
  */
-class Flechette extends Unit
+class Flechette extends Projectile
 {
 	private FlechetteManager parent;
 
@@ -27,6 +27,16 @@ class Flechette extends Unit
 		this.parent = parent;
 	}
 
+	/**
+	 * Brings a recycled flechette back into play, as if it were new.
+	 * 
+	 * @since October 18, 2026
+	 */
+	void reinit( Color color, double x, double y, double dx, double dy, double angle )
+	{
+		reset( color, x, y, dx + parent.getSpeed() * Math.cos( angle ), dy - parent.getSpeed() * Math.sin( angle ) );
+	}
+
 	@Override
 	public void act()
 	{
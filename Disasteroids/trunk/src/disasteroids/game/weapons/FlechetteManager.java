@@ -21,6 +21,13 @@ import disasteroids.sound.SoundLibrary;
  */
 public class FlechetteManager extends Weapon
 {
+	/**
+	 * Our removed flechettes, kept to be fired again.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private final UnitPool<Flechette> pool = new UnitPool<Flechette>( 256 );
+
 	private int speed = 25;
 
 	private int intervalShoot = 2;
@@ -45,7 +52,7 @@ public class FlechetteManager extends Weapon
 			if ( !canShoot() )
 				break;
 
-			addUnit( new Flechette( this, color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle + ( Util.getGameplayRandomGenerator().nextDouble() - .5 ) ) );
+			addUnit( createFlechette( color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle + ( Util.getGameplayRandomGenerator().nextDouble() - .5 ) ) );
 			if ( !isInfiniteAmmo() )
 				--ammo;
 		}
@@ -65,7 +72,7 @@ public class FlechetteManager extends Weapon
 				if ( !canBerserk() )
 					break;
 
-				addUnit( new Flechette( this, color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), Util.getGameplayRandomGenerator().nextAngle() + ( Util.getGameplayRandomGenerator().nextDouble() - .5 ) ) );
+				addUnit( createFlechette( color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), Util.getGameplayRandomGenerator().nextAngle() + ( Util.getGameplayRandomGenerator().nextDouble() - .5 ) ) );
 				++firedShots;
 				if ( !isInfiniteAmmo() )
 					--ammo;
@@ -100,6 +107,27 @@ public class FlechetteManager extends Weapon
 		return ( speed * Util.getGameplayRandomGenerator().nextDouble() );
 	}
 
+	/**
+	 * Returns a flechette to fire, reusing a removed one if we can.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private Flechette createFlechette( Color color, double x, double y, double dx, double dy, double angle )
+	{
+		Flechette u = pool.obtain();
+		if ( u == null )
+			return new Flechette( this, color, x, y, dx, dy, angle );
+
+		u.reinit( color, x, y, dx, dy, angle );
+		return u;
+	}
+
+	@Override
+	protected void recycle( Unit u )
+	{
+		pool.release( (Flechette) u );
+	}
+
 	@Override
 	public int getMaxUnits()
 	{
@@ -13,7 +13,6 @@ import disasteroids.game.objects.GameObject;
 import disasteroids.game.objects.Ship;
 import disasteroids.game.objects.Station;
 import disasteroids.gui.MainWindow;
-import disasteroids.gui.Particle;
 import disasteroids.gui.ParticleManager;
 
 /**
@@ -21,7 +20,7 @@ import disasteroids.gui.ParticleManager;
  * @author Matt Weir
  * @since May 30, 2009
  */
-public class GuidedMissile extends Unit
+public class GuidedMissile extends Unit implements ObjectManager.ObjectConsumer
 {
 	private GameObject objectToFollow;
 	private GuidedMissileManager parent;
@@ -35,6 +34,13 @@ public class GuidedMissile extends Unit
 
 	private final int searchRadius = 1000;
 
+	/**
+	 * The best target seen so far by <code>findObjectToFollow</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private GameObject bestTarget;
+
 	public GuidedMissile( GuidedMissileManager parent, Color color, double x, double y, double dx, double dy, double angle )
 	{
 		super( color, x, y, dx, dy );
@@ -70,21 +76,10 @@ public class GuidedMissile extends Unit
 		ObjectManager objManager = Game.getInstance().getObjectManager();
 		objectToFollow = objManager.getObject( 0 );
 
-		GameObject target = null;
-
-		for ( long l : objManager.getAllIds() )
-		{
-			GameObject obj = objManager.getObject( l );
-			if ( !isValidTarget( obj ) )
-				continue;
-			if ( target == null )// we haven't found anything, yet.
-			{
-				target = obj;
-				continue;
-			}
-			// We have two possible targets here, choose the best one.
-			target = getBetterTarget( target, obj );
-		}
+		bestTarget = null;
+		objManager.queryRadius( getX(), getY(), searchRadius, ObjectManager.QUERY_ASTEROIDS | ObjectManager.QUERY_PLAYERS | ObjectManager.QUERY_BADDIES, this );
+		GameObject target = bestTarget;
+		bestTarget = null;
 
 		if ( target != null )
 		{
@@ -234,16 +229,13 @@ public class GuidedMissile extends Unit
 			case 8:
 				if ( explosionStage % 2 != 0 )
 					col = Color.yellow;
-				radius = 5;
 				MainWindow.frame().fillCircle( g, col, (int) getX(), (int) getY(), radius );
 				break;
 			case 9:
 			case 10:
 			case 11:
-				radius = 14;
 				col = Color.yellow;
 				MainWindow.frame().fillCircle( g, col, (int) getX(), (int) getY(), radius );
-				this.explosionStage++;
 				break;
 		}
 	}
@@ -264,7 +256,7 @@ public class GuidedMissile extends Unit
 		{
 			Random rand = Util.getGameplayRandomGenerator();
 			for ( int i = 0; i < (int) ( 7 - Math.sqrt( getDx() * getDx() + getDy() * getDy() ) ); i++ )
-				ParticleManager.addParticle( new Particle( getX() + rand.nextInt( 8 ) - 4, getY() + rand.nextInt( 8 ) - 4, rand.nextInt( 4 ), color, rand.nextDouble() * 3, angle + rand.nextDouble() * .4 - .2 + Math.PI, 30, 10 ) );
+				ParticleManager.addParticle( getX() + rand.nextInt( 8 ) - 4, getY() + rand.nextInt( 8 ) - 4, rand.nextInt( 4 ), color, rand.nextDouble() * 3, angle + rand.nextDouble() * .4 - .2 + Math.PI, 30, 10 );
 		}
 		// Explode when old.
 		if ( age > parent.life() && explosionStage == 0 )
@@ -284,6 +276,7 @@ public class GuidedMissile extends Unit
 				case 4:
 					setDx( getDx() * .8 );
 					setDy( getDy() * .8 );
+					radius = 3;
 					break;
 				case 5:
 				case 6:
@@ -291,13 +284,17 @@ public class GuidedMissile extends Unit
 				case 8:
 					setDx( getDx() * .8 );
 					setDy( getDy() * .8 );
-					radius = 3;
+					radius = 5;
 					break;
 				case 9:
 				case 10:
 				case 11:
 					setDx( getDx() * .8 );
 					setDy( getDy() * .8 );
+
+					// The blast grows here, not when it's drawn, so it hits the same whether or not it's on screen.
+					radius = 14;
+					this.explosionStage++;
 					break;
 				default:
 					parent.remove( this );
@@ -341,6 +338,23 @@ public class GuidedMissile extends Unit
 		return two;
 	}
 
+	/**
+	 * Keeps the better of each nearby object and the best so far. Called by <code>ObjectManager.queryRadius</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public boolean accept( GameObject obj, double distance )
+	{
+		if ( !isValidTarget( obj ) )
+			return true;
+
+		if ( bestTarget == null )// we haven't found anything, yet.
+			bestTarget = obj;
+		else// We have two possible targets here, choose the best one.
+			bestTarget = getBetterTarget( bestTarget, obj );
+		return true;
+	}
+
 	/**
 	 * Makes sure the given object is a vaild target. Only shoots at Asteroids,
 	 * Aliens, Stations, and other Ships
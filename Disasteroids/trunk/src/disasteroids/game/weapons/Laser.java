@@ -10,91 +10,183 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
+import disasteroids.Util;
+import disasteroids.game.Game;
+import disasteroids.game.objects.GameObject;
 import disasteroids.gui.MainWindow;
+import disasteroids.gui.RelativeGraphics;
 
 /**
- * A weak beam of light. Lasers are joined together to create a continuous beam.
- * @author Andy Kooiman
+ * A weak, straight beam of light. Our location is where the beam starts; it runs <code>length</code> pixels along
+ * <code>angle</code>.
+ *
+ * The beam stops at the first thing it hits: the <code>CollisionSystem</code> traces it through the collision grid,
+ * finds the nearest object it touches, and tells us where that is (<code>stopAt</code>). When we're then told to
+ * explode, the beam is cut off there.
+ *
+ * @author Andy Kooiman, Phillip Cohen
  */
-class Laser extends Unit
+public class Laser extends Unit
 {
 	private LaserManager parent;
 
-	private int length;
+	private double length;
 
 	private double angle;
 
-	private boolean isHead;
-
 	/**
-	 * The next laser in this line.
+	 * How far along the beam it was blocked this step, or 0 if it wasn't.
+	 *
+	 * @since October 18, 2026
 	 */
-	private Laser next;
+	private double blockedAt = 0;
 
-	public Laser( LaserManager parent, Color color, double x, double y, double dx, double dy, double angle, boolean isRoot )
+	public Laser( LaserManager parent, Color color, double x, double y, double dx, double dy, double angle, double length )
 	{
 		super( color, x, y, dx, dy );
 		this.angle = angle;
 		this.parent = parent;
-		this.length = parent.length();
-		this.isHead = isRoot;
+		this.length = length;
+	}
+
+	/**
+	 * Brings a recycled beam back into play, as if it were new.
+	 *
+	 * @since October 18, 2026
+	 */
+	void reinit( Color color, double x, double y, double dx, double dy, double angle, double length )
+	{
+		reset( color, x, y, dx, dy );
+		this.angle = angle;
+		this.length = length;
+		blockedAt = 0;
 	}
 
 	@Override
 	public void act()
 	{
 		super.act();
+		blockedAt = 0;
 		if ( age > 3 )
 			parent.remove( this );
 	}
 
+	/**
+	 * Draws the beam as one line. Long beams can cross the edge of the world, so the line is also drawn wrapped
+	 * around to the other side when that side is on screen.
+	 */
 	public void draw( Graphics g )
 	{
-		MainWindow.frame().drawLine( g, color, (int) getX(), (int) getY(), length, angle );
+		int x = RelativeGraphics.translateX( getX() ), y = RelativeGraphics.translateY( getY() );
+		int endX = x + (int) ( length * Math.cos( angle ) ), endY = y - (int) ( length * Math.sin( angle ) );
+		int width = Game.getInstance().GAME_WIDTH, height = Game.getInstance().GAME_HEIGHT;
+
+		g.setColor( color );
+		for ( int shiftX = -width; shiftX <= width; shiftX += width )
+		{
+			if ( Math.max( x, endX ) + shiftX < 0 || Math.min( x, endX ) + shiftX > MainWindow.frame().getWidth() )
+				continue;
+
+			for ( int shiftY = -height; shiftY <= height; shiftY += height )
+			{
+				if ( Math.max( y, endY ) + shiftY < 0 || Math.min( y, endY ) + shiftY > MainWindow.frame().getHeight() )
+					continue;
+
+				g.drawLine( x + shiftX, y + shiftY, endX + shiftX, endY + shiftY );
+			}
+		}
 	}
 
 	/**
-	 * Sets the laser next in line. When this laser explodes, the entire line after it does also.
+	 * Returns how far along the beam it first touches the given object's collision radius, or -1 if it doesn't.
+	 *
+	 * @since October 18, 2026
 	 */
-	public void setNext( Laser next )
+	public double getHitDistance( GameObject go )
 	{
-		this.next = next;
+		double reach = go.getCollisionRadius() + getRadius();
+		double cos = Math.cos( angle ), sin = -Math.sin( angle );
+		int width = Game.getInstance().GAME_WIDTH, height = Game.getInstance().GAME_HEIGHT;
+
+		// The beam may be longer than half the world, so the object's nearest image isn't always the one it hits.
+		double best = -1;
+		double nearestX = Util.getDeltaX( go.getX(), getX() ), nearestY = Util.getDeltaY( go.getY(), getY() );
+		for ( double deltaX = nearestX - width; deltaX <= nearestX + width; deltaX += width )
+		{
+			for ( double deltaY = nearestY - height; deltaY <= nearestY + height; deltaY += height )
+			{
+				// Project the object's center onto the beam.
+				double along = deltaX * cos + deltaY * sin;
+				double across = deltaX * deltaX + deltaY * deltaY - along * along;
+				if ( across >= reach * reach )
+					continue;
+
+				double halfChord = Math.sqrt( reach * reach - across );
+				if ( along + halfChord < 0 || along - halfChord > length )
+					continue;
+
+				double distance = Math.max( 0, along - halfChord );
+				if ( best < 0 || distance < best )
+					best = distance;
+			}
+		}
+		return best;
 	}
 
-	@Override
-	public double getRadius()
+	/**
+	 * Notes that the beam was blocked this far along. Called by the <code>CollisionSystem</code>.
+	 *
+	 * @since October 18, 2026
+	 */
+	public void stopAt( double distance )
 	{
-		return parent.getRadius();
+		blockedAt = distance;
+	}
+
+	public double getAngle()
+	{
+		return angle;
+	}
+
+	public double getLength()
+	{
+		return length;
 	}
 
 	/**
-	 * Immediately removes this laser and every laser after it in line.
+	 * @since October 18, 2026
 	 */
 	@Override
-	public void explode()
+	public double getDrawRadius()
 	{
-		if ( next != null )
-			next.explode();
-		parent.remove( this );
+		return length + getRadius();
 	}
 
 	@Override
-	public int getDamage()
+	public double getRadius()
 	{
-		return parent.getDamage();
+		return parent.getRadius();
 	}
 
-	public int getNumChildren()
+	/**
+	 * Cuts the beam off where it was blocked, or removes it entirely if it wasn't.
+	 */
+	@Override
+	public void explode()
 	{
-		if ( next == null )
-			return 0;
+		if ( blockedAt > 0 )
+		{
+			length = blockedAt;
+			blockedAt = 0;
+		}
 		else
-			return 1 + next.getNumChildren();
+			parent.remove( this );
 	}
 
-	public boolean isHead()
+	@Override
+	public int getDamage()
 	{
-		return isHead;
+		return parent.getDamage();
 	}
 
 	@Override
@@ -114,8 +206,7 @@ class Laser extends Unit
 	{
 		super.flatten( stream );
 		stream.writeDouble( angle );
-		stream.writeInt( length );
-		stream.writeInt( getNumChildren() );
+		stream.writeDouble( length );
 	}
 
 	/**
@@ -125,22 +216,8 @@ class Laser extends Unit
 	{
 		super( stream );
 		angle = stream.readDouble();
-		length = stream.readInt();
+		length = stream.readDouble();
 
 		this.parent = parent;
-		int children = stream.readInt();
-		double X = getX() + length * Math.cos( angle );
-		double Y = getY() - length * Math.sin( angle );
-		Laser l = this;
-		for ( int i = 0; i < children; i++ )
-		{
-			// System.out.println( X +" , " + Y );
-			Laser last = new Laser( parent, color, X, Y, getDx(), getDy(), angle, false );
-			l.setNext( last );
-			parent.addUnit( last );
-			X += length * Math.cos( angle );
-			Y -= length * Math.sin( angle );
-			l = last;
-		}
 	}
 }
@@ -9,8 +9,6 @@ import java.awt.Graphics;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 
 import disasteroids.game.objects.GameObject;
 import disasteroids.game.objects.ShootingObject;
@@ -19,17 +17,32 @@ import disasteroids.sound.SoundLibrary;
 
 /**
  * A weapon manager that fires long, straight Lasers
- * @author Andy Kooiman
+ * @author Andy Kooiman, Phillip Cohen
  */
 public class LaserManager extends Weapon
 {
+	/**
+	 * Our removed beams, kept to be fired again.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private final UnitPool<Laser> pool = new UnitPool<Laser>( 16 );
+
 	private int speed = 20;
 
 	private int intervalShoot = 4;
 
 	private int damage = 5;
 
-	private int length = 10;
+	/**
+	 * How far each beam reaches.
+	 */
+	private int length = 1500;
+
+	/**
+	 * How far from the beam's line it can hit things.
+	 */
+	private int radius = 5;
 
 	public LaserManager( ShootingObject parent )
 	{
@@ -55,7 +68,7 @@ public class LaserManager extends Weapon
 			return;
 
 		// Create the laser beam.
-		createLinkedLaser( parent, color, angle );
+		createBeam( parent, color, angle );
 
 		timeTillNextShot = intervalShoot;
 		if ( !isInfiniteAmmo() )
@@ -64,23 +77,17 @@ public class LaserManager extends Weapon
 	}
 
 	/**
-	 * Creates a laser beam by linking many individual <code>Laser</code>s.
+	 * Creates a laser beam, starting at our parent and reaching <code>length</code> pixels. Reuses a removed beam if
+	 * we can.
 	 */
-	private void createLinkedLaser( GameObject parent, Color color, double angle )
+	private void createBeam( GameObject parent, Color color, double angle )
 	{
-		double X = parent.getX();
-		double Y = parent.getY();
-		Laser l = null;
-		for ( int i = 0; i < 150; i++ )
-		{
-			Laser last = new Laser( this, color, X, Y, parent.getDx(), parent.getDy(), angle, ( i == 0 ) );
-			if ( l != null )
-				l.setNext( last );
-			addUnit( last );
-			X += length * Math.cos( angle );
-			Y -= length * Math.sin( angle );
-			l = last;
-		}
+		Laser l = pool.obtain();
+		if ( l == null )
+			l = new Laser( this, color, parent.getX(), parent.getY(), parent.getDx(), parent.getDy(), angle, length );
+		else
+			l.reinit( color, parent.getX(), parent.getY(), parent.getDx(), parent.getDy(), angle, length );
+		addUnit( l );
 	}
 
 	@Override
@@ -92,7 +99,7 @@ public class LaserManager extends Weapon
 			if ( !canBerserk() )
 				break;
 
-			createLinkedLaser( parent, color, angle );
+			createBeam( parent, color, angle );
 
 			if ( !isInfiniteAmmo() )
 				--ammo;
@@ -107,16 +114,22 @@ public class LaserManager extends Weapon
 		}
 	}
 
+	@Override
+	protected void recycle( Unit u )
+	{
+		pool.release( (Laser) u );
+	}
+
 	@Override
 	public int getMaxUnits()
 	{
-		return 8000;
+		return 50;
 	}
 
 	@Override
 	public void drawOrphanUnit( Graphics g, double x, double y, Color col )
 	{
-		new Laser( this, col, x, y, 0, 0, 0, false ).draw( g );
+		new Laser( this, col, x, y, 0, 0, 0, radius * 2 ).draw( g );
 	}
 
 	public int getDamage()
@@ -131,7 +144,7 @@ public class LaserManager extends Weapon
 
 	public int getRadius()
 	{
-		return length / 2;
+		return radius;
 	}
 
 	public int length()
@@ -152,21 +165,13 @@ public class LaserManager extends Weapon
 		stream.writeInt( damage );
 		stream.writeInt( intervalShoot );
 		stream.writeInt( length );
+		stream.writeInt( radius );
 		stream.writeInt( speed );
 
 		// Flatten all of the units.
-		// To save space, we flatten only the head of each beam.
-		Set<Laser> heads = new HashSet<Laser>();
+		stream.writeInt( units.size() );
 		for ( Unit u : units )
-		{
-			Laser l = (Laser) u;
-			if ( l.isHead() )
-				heads.add( l );
-		}
-
-		stream.writeInt( heads.size() );
-		for ( Laser l : heads )
-			l.flatten( stream );
+			u.flatten( stream );
 	}
 
 	/**
@@ -178,6 +183,7 @@ public class LaserManager extends Weapon
 		damage = stream.readInt();
 		intervalShoot = stream.readInt();
 		length = stream.readInt();
+		radius = stream.readInt();
 		speed = stream.readInt();
 
 		// Restore all of the units.
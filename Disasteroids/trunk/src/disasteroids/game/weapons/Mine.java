@@ -12,8 +12,7 @@ import java.io.IOException;
 
 import disasteroids.Util;
 import disasteroids.game.Game;
-import disasteroids.game.objects.BlackHole;
-import disasteroids.game.objects.Bonus;
+import disasteroids.game.ObjectManager;
 import disasteroids.game.objects.GameObject;
 import disasteroids.game.objects.Ship;
 import disasteroids.gui.MainWindow;
@@ -22,7 +21,7 @@ import disasteroids.gui.MainWindow;
  * A mine that moves towards nearby targets and explodes violently on impact.
  * @author Andy Kooiman
  */
-public class Mine extends Unit
+public class Mine extends Unit implements ObjectManager.ObjectConsumer, ObjectManager.ObjectPredicate
 {
 	/**
 	 * The size of the explosion. If 0, we're not exploding.
@@ -33,6 +32,13 @@ public class Mine extends Unit
 
 	private GameObject myTarget;
 
+	/**
+	 * What we'll blow up for, and chase: everything but black holes, bonuses, and other units.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static final int TARGET_TYPES = ObjectManager.QUERY_ASTEROIDS | ObjectManager.QUERY_PLAYERS | ObjectManager.QUERY_BADDIES;
+
 	/**
 	 * Creates a new <code>Minde</code>
 	 * 
@@ -46,6 +52,18 @@ public class Mine extends Unit
 		this.parent = parent;
 	}
 
+	/**
+	 * Brings a recycled mine back into play, as if it were new.
+	 * 
+	 * @since October 18, 2026
+	 */
+	void reinit( Color color, double x, double y, double dx, double dy )
+	{
+		reset( color, x, y, dx, dy );
+		explosionSize = 0;
+		myTarget = null;
+	}
+
 	@Override
 	public void act()
 	{
@@ -54,20 +72,7 @@ public class Mine extends Unit
 
 		// Explode if an object comes too close.
 		if ( isArmed() )
-		{
-			for ( long id : Game.getInstance().getObjectManager().getAllIds() )
-			{
-				GameObject go = Game.getInstance().getObjectManager().getObject( id );
-				if ( go instanceof BlackHole || go instanceof Bonus || ( go instanceof Ship && ( ( (Ship) go ).cannotDie() || ( (Ship) go ) == parent.getParent() ) ) )
-					continue;
-
-				if ( Util.getDistance( this, Game.getInstance().getObjectManager().getObject( id ) ) < parent.getBonusValue( parent.BONUS_EXPLODERADIUS ).getValue() )
-				{
-					explode();
-					break;
-				}
-			}
-		}
+			Game.getInstance().getObjectManager().queryRadius( getX(), getY(), parent.getBonusValue( parent.BONUS_EXPLODERADIUS ).getValue(), TARGET_TYPES, this );
 
 		// Accelerate towards nearby targets.
 		if ( ( parent.getBonusValue( parent.BONUS_TRACKING ).getValue() == 1 ) && isArmed() )
@@ -82,22 +87,7 @@ public class Mine extends Unit
 			// Get a new target by finding the closest object.
 			if ( myTarget == null )
 			{
-				GameObject closestObject = null;
-				for ( long id : Game.getInstance().getObjectManager().getAllIds() )
-				{
-					GameObject go = Game.getInstance().getObjectManager().getObject( id );
-
-					if ( go instanceof BlackHole || go instanceof Bonus || ( go instanceof Ship && ( ( (Ship) go ) == parent.getParent() ) ) )
-						continue;
-
-					if ( Util.getDistance( this, go ) < parent.sight() && parent.isTargetAvailible( go ) )
-					{
-						if ( closestObject == null || ( Util.getDistance( this, go ) < Util.getDistance( this, closestObject ) ) )
-							closestObject = go;
-					}
-
-				}
-				myTarget = closestObject;
+				myTarget = Game.getInstance().getObjectManager().nearest( getX(), getY(), parent.sight(), TARGET_TYPES, this );
 				parent.reserveTarget( myTarget );
 			}
 
@@ -121,6 +111,30 @@ public class Mine extends Unit
 			parent.remove( this );
 	}
 
+	/**
+	 * Explodes when something comes too close. Called by <code>ObjectManager.queryRadius</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public boolean accept( GameObject go, double distance )
+	{
+		if ( go instanceof Ship && ( ( (Ship) go ).cannotDie() || ( (Ship) go ) == parent.getParent() ) )
+			return true;
+
+		explode();
+		return false;
+	}
+
+	/**
+	 * Returns whether we can chase the given object. Used by <code>ObjectManager.nearest</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public boolean matches( GameObject go )
+	{
+		return go != parent.getParent() && parent.isTargetAvailible( go );
+	}
+
 	/**
 	 * Returns the damage caused by this <code>Mine</code>. Will be zero if still arming.
 	 */
@@ -182,6 +196,17 @@ public class Mine extends Unit
 		return isExploding() ? ( explosionSize ) : 10;
 	}
 
+	/**
+	 * While exploding, we also draw how far the explosion reaches.
+	 * 
+	 * @since October 18, 2026
+	 */
+	@Override
+	public double getDrawRadius()
+	{
+		return isExploding() ? Math.max( explosionSize, parent.getBonusValue( parent.BONUS_EXPLODERADIUS ).getValue() ) : 10;
+	}
+
 	/**
 	 * Detonates the mine, creating a large explosion.
 	 */
@@ -23,6 +23,13 @@ import disasteroids.sound.SoundLibrary;
  */
 public class MineManager extends Weapon
 {
+	/**
+	 * Our removed mines, kept to be fired again.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private final UnitPool<Mine> pool = new UnitPool<Mine>( 64 );
+
 	private double berserkAngleOffset = 0;
 
 	/**
@@ -68,7 +75,7 @@ public class MineManager extends Weapon
 		if ( !canShoot() )
 			return;
 
-		addUnit( new Mine( this, color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy() ) );
+		addUnit( createMine( color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy() ) );
 		if ( !isInfiniteAmmo() )
 			--ammo;
 
@@ -86,7 +93,7 @@ public class MineManager extends Weapon
 			if ( !canBerserk() )
 				break;
 
-			addUnit( new Mine( this, color, parent.getX() + Math.cos( berserkAngleOffset + angle ) * 50, parent.getY() + Math.sin( berserkAngleOffset + angle ) * 50, parent.getDx(), parent.getDy() ) );
+			addUnit( createMine( color, parent.getX() + Math.cos( berserkAngleOffset + angle ) * 50, parent.getY() + Math.sin( berserkAngleOffset + angle ) * 50, parent.getDx(), parent.getDy() ) );
 
 			if ( !isInfiniteAmmo() )
 				--ammo;
@@ -101,6 +108,27 @@ public class MineManager extends Weapon
 		}
 	}
 
+	/**
+	 * Returns a mine to fire, reusing a removed one if we can.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private Mine createMine( Color color, double x, double y, double dx, double dy )
+	{
+		Mine u = pool.obtain();
+		if ( u == null )
+			return new Mine( this, color, x, y, dx, dy );
+
+		u.reinit( color, x, y, dx, dy );
+		return u;
+	}
+
+	@Override
+	protected void recycle( Unit u )
+	{
+		pool.release( (Mine) u );
+	}
+
 	@Override
 	public int getMaxUnits()
 	{
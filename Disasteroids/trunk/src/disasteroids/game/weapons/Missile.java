@@ -13,7 +13,6 @@ import java.util.Random;
 
 import disasteroids.Util;
 import disasteroids.gui.MainWindow;
-import disasteroids.gui.Particle;
 import disasteroids.gui.ParticleManager;
 
 /**
@@ -69,6 +68,21 @@ public class Missile extends Unit
 		hugeBlast = ( Util.getGameplayRandomGenerator().nextInt( parent.getBonusValue( parent.BONUS_HUGEBLASTPROB ).getValue() ) <= 1 );
 	}
 
+	/**
+	 * Brings a recycled missile back into play, as if it were new.
+	 * 
+	 * @since October 18, 2026
+	 */
+	void reinit( Color color, double x, double y, double dx, double dy, double angle, int generation )
+	{
+		reset( color, x, y, dx, dy );
+		this.angle = angle;
+		this.generation = generation;
+		explosionStage = 0;
+		radius = 3;
+		hugeBlast = ( Util.getGameplayRandomGenerator().nextInt( parent.getBonusValue( parent.BONUS_HUGEBLASTPROB ).getValue() ) <= 1 );
+	}
+
 	/**
 	 * Draws the missile and any of its explosions.
 	 * 
@@ -99,24 +113,14 @@ public class Missile extends Unit
 			case 8:
 				if ( explosionStage % 2 != 0 )
 					col = Color.yellow;
-				radius = 5;
 				MainWindow.frame().fillCircle( g, col, (int) getX(), (int) getY(), (int) radius );
 				break;
 			case 9:
 			case 10:
 			case 11:
-				if ( hugeBlast )
-				{
-					radius = parent.getBonusValue( parent.BONUS_HUGEBLASTSIZE ).getValue();
-					MainWindow.frame().fillCircle( g, col, (int) getX(), (int) getY(), (int) radius );
-				}
-				else
-				{
-					radius = 14;
+				if ( !hugeBlast )
 					col = Color.yellow;
-					MainWindow.frame().fillCircle( g, col, (int) getX(), (int) getY(), (int) radius );
-					this.explosionStage++;
-				}
+				MainWindow.frame().fillCircle( g, col, (int) getX(), (int) getY(), (int) radius );
 				break;
 		}
 	}
@@ -150,7 +154,7 @@ public class Missile extends Unit
 		{
 			Random rand = Util.getGameplayRandomGenerator();
 			for ( int i = 0; i < (int) ( 7 - Math.sqrt( getDx() * getDx() + getDy() * getDy() ) ); i++ )
-				ParticleManager.addParticle( new Particle( getX() + rand.nextInt( 8 ) - 4, getY() + rand.nextInt( 8 ) - 4, rand.nextInt( 4 ), color, rand.nextDouble() * 3, angle + rand.nextDouble() * .4 - .2 + Math.PI, 30, 10 ) );
+				ParticleManager.addParticle( getX() + rand.nextInt( 8 ) - 4, getY() + rand.nextInt( 8 ) - 4, rand.nextInt( 4 ), color, rand.nextDouble() * 3, angle + rand.nextDouble() * .4 - .2 + Math.PI, 30, 10 );
 		}
 		// Explode when old.
 		if ( age > parent.life() && explosionStage == 0 )
@@ -178,12 +182,22 @@ public class Missile extends Unit
 				case 8:
 					setDx( getDx() * .8 );
 					setDy( getDy() * .8 );
+					radius = 5;
 					break;
 				case 9:
 				case 10:
 				case 11:
 					setDx( getDx() * .8 );
 					setDy( getDy() * .8 );
+
+					// The blast grows here, not when it's drawn, so it hits the same whether or not it's on screen.
+					if ( hugeBlast )
+						radius = parent.getBonusValue( parent.BONUS_HUGEBLASTSIZE ).getValue();
+					else
+					{
+						radius = 14;
+						this.explosionStage++;
+					}
 					break;
 				default:
 					parent.remove( this );
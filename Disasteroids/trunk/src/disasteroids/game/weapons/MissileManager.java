@@ -21,6 +21,13 @@ import disasteroids.sound.SoundLibrary;
  */
 public class MissileManager extends Weapon
 {
+	/**
+	 * Our removed missiles, kept to be fired again.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private final UnitPool<Missile> pool = new UnitPool<Missile>( 128 );
+
 	/**
 	 * The current initial speed for <code>Missile</code>s in this manager.
 	 * @since Classic
@@ -73,7 +80,7 @@ public class MissileManager extends Weapon
 		if ( !canShoot() )
 			return;
 
-		addUnit( new Missile( this, color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle, 0 ) );
+		addUnit( createMissile( color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle, 0 ) );
 
 		if ( !isInfiniteAmmo() )
 			--ammo;
@@ -95,7 +102,7 @@ public class MissileManager extends Weapon
 			return;
 
 		for ( int i = 0; i < getBonusValue( BONUS_POPPINGQUANTITY ).getValue(); i++ )
-			addUnit( new Missile( this, origin.color, origin.getX(), origin.getY(), 0, 0, i * 2 * Math.PI / getBonusValue( BONUS_POPPINGQUANTITY ).getValue() + i * Math.PI, origin.getGeneration() + 1 ) );
+			addUnit( createMissile( origin.color, origin.getX(), origin.getY(), 0, 0, i * 2 * Math.PI / getBonusValue( BONUS_POPPINGQUANTITY ).getValue() + i * Math.PI, origin.getGeneration() + 1 ) );
 	}
 
 	@Override
@@ -107,7 +114,7 @@ public class MissileManager extends Weapon
 			if ( !canBerserk() )
 				break;
 
-			addUnit( new Missile( this, color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle, 0 ) );
+			addUnit( createMissile( color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle, 0 ) );
 
 			if ( !isInfiniteAmmo() )
 				--ammo;
@@ -138,6 +145,27 @@ public class MissileManager extends Weapon
 		getBonusValue( BONUS_POPPINGPROB ).override( poppingProbTemp );
 	}
 
+	/**
+	 * Returns a missile to fire, reusing a removed one if we can.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private Missile createMissile( Color color, double x, double y, double dx, double dy, double angle, int generation )
+	{
+		Missile u = pool.obtain();
+		if ( u == null )
+			return new Missile( this, color, x, y, dx, dy, angle, generation );
+
+		u.reinit( color, x, y, dx, dy, angle, generation );
+		return u;
+	}
+
+	@Override
+	protected void recycle( Unit u )
+	{
+		pool.release( (Missile) u );
+	}
+
 	@Override
 	public int getMaxUnits()
 	{
@@ -0,0 +1,134 @@
+/*
+ * DISASTEROIDS
+ * Projectile.java
+ */
+package disasteroids.game.weapons;
+
+import java.awt.Color;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import disasteroids.game.Game;
+import disasteroids.game.KinematicsStore;
+
+/**
+ * A unit that flies in a straight line, so its location is just where it was launched plus its velocity times how
+ * long it's flown.
+ *
+ * Projectiles don't move each step; their location is worked out when it's asked for. Whenever the location or
+ * velocity is changed from outside (say, by a black hole's pull), the launch point is moved to where we are, and
+ * we carry on from there. Over the network, we're sent as the launch point and the age we were launched at.
+ *
+ * @author Phillip Cohen
+ * @since October 18, 2026
+ */
+abstract class Projectile extends Unit
+{
+	/**
+	 * Where we were launched from, and our age at the time.
+	 */
+	private double launchX, launchY;
+
+	private int launchAge;
+
+	public Projectile( Color color, double x, double y, double dx, double dy )
+	{
+		super( color, x, y, dx, dy );
+		launchX = x;
+		launchY = y;
+		launchAge = 0;
+	}
+
+	/**
+	 * Does nothing; our location follows from our age.
+	 */
+	@Override
+	public void move()
+	{
+	}
+
+	@Override
+	public double getX()
+	{
+		return KinematicsStore.wrap( launchX + getDx() * ( age - launchAge ), Game.getInstance().GAME_WIDTH );
+	}
+
+	@Override
+	public double getY()
+	{
+		return KinematicsStore.wrap( launchY + getDy() * ( age - launchAge ), Game.getInstance().GAME_HEIGHT );
+	}
+
+	@Override
+	public void setX( double x )
+	{
+		relaunch();
+		launchX = KinematicsStore.wrap( x, Game.getInstance().GAME_WIDTH );
+	}
+
+	@Override
+	public void setY( double y )
+	{
+		relaunch();
+		launchY = KinematicsStore.wrap( y, Game.getInstance().GAME_HEIGHT );
+	}
+
+	@Override
+	public void setDx( double dx )
+	{
+		relaunch();
+		super.setDx( dx );
+	}
+
+	@Override
+	public void setDy( double dy )
+	{
+		relaunch();
+		super.setDy( dy );
+	}
+
+	/**
+	 * Moves the launch point to where we are now.
+	 */
+	private void relaunch()
+	{
+		launchX = getX();
+		launchY = getY();
+		launchAge = age;
+	}
+
+	/**
+	 * Writes our launch point, velocity, and launch age.
+	 */
+	@Override
+	public void flattenPosition( DataOutputStream stream ) throws IOException
+	{
+		stream.writeDouble( launchX );
+		stream.writeDouble( launchY );
+		stream.writeDouble( getDx() );
+		stream.writeDouble( getDy() );
+		stream.writeInt( launchAge );
+	}
+
+	/**
+	 * Reads our launch point, velocity, and launch age. Called before our age is read, so nothing is relaunched.
+	 */
+	@Override
+	public void restorePosition( DataInputStream stream ) throws IOException
+	{
+		launchX = stream.readDouble();
+		launchY = stream.readDouble();
+		super.setDx( stream.readDouble() );
+		super.setDy( stream.readDouble() );
+		launchAge = stream.readInt();
+	}
+
+	/**
+	 * Reads <code>this</code> from a stream for client/server transmission.
+	 */
+	public Projectile( DataInputStream stream ) throws IOException
+	{
+		super( stream );
+	}
+}
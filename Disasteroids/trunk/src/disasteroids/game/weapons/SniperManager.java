@@ -20,6 +20,13 @@ import disasteroids.sound.SoundLibrary;
  */
 public class SniperManager extends Weapon
 {
+	/**
+	 * Our removed rounds, kept to be fired again.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private final UnitPool<SniperRound> pool = new UnitPool<SniperRound>( 64 );
+
 	private int speed = 30;
 
 	private int radius = 10;
@@ -55,7 +62,7 @@ public class SniperManager extends Weapon
 		if ( !canShoot() )
 			return;
 
-		addUnit( new SniperRound( this, color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle ) );
+		addUnit( createSniperRound( color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle ) );
 
 		if ( !isInfiniteAmmo() )
 			--ammo;
@@ -73,7 +80,7 @@ public class SniperManager extends Weapon
 			if ( !canBerserk() )
 				break;
 
-			addUnit( new SniperRound( this, color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle ) );
+			addUnit( createSniperRound( color, parent.getFiringOriginX(), parent.getFiringOriginY(), parent.getDx(), parent.getDy(), angle ) );
 			if ( !isInfiniteAmmo() )
 				--ammo;
 
@@ -97,6 +104,27 @@ public class SniperManager extends Weapon
 		return speed;
 	}
 
+	/**
+	 * Returns a round to fire, reusing a removed one if we can.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private SniperRound createSniperRound( Color color, double x, double y, double dx, double dy, double angle )
+	{
+		SniperRound u = pool.obtain();
+		if ( u == null )
+			return new SniperRound( this, color, x, y, dx, dy, angle );
+
+		u.reinit( color, x, y, dx, dy, angle );
+		return u;
+	}
+
+	@Override
+	protected void recycle( Unit u )
+	{
+		pool.release( (SniperRound) u );
+	}
+
 	@Override
 	public int getMaxUnits()
 	{
@@ -16,7 +16,7 @@ import disasteroids.gui.MainWindow;
  * A very fast bullet fired by the sniper rifle.
  * @author Andy Kooiman
  */
-class SniperRound extends Unit
+class SniperRound extends Projectile
 {
 	private SniperManager parent;
 
@@ -32,6 +32,18 @@ class SniperRound extends Unit
 		damage = parent.getDamage();
 	}
 
+	/**
+	 * Brings a recycled round back into play, as if it were new.
+	 * 
+	 * @since October 18, 2026
+	 */
+	void reinit( Color color, double x, double y, double dx, double dy, double angle )
+	{
+		reset( color, x, y, dx + parent.getSpeed() * Math.cos( angle ), dy - parent.getSpeed() * Math.sin( angle ) );
+		this.angle = angle;
+		damage = parent.getDamage();
+	}
+
 	@Override
 	public double getRadius()
 	{
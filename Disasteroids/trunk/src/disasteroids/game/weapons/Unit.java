@@ -60,6 +60,21 @@ public abstract class Unit extends GameObject
 		age = stream.readInt();
 	}
 
+	/**
+	 * Brings a recycled unit back into play as if it were new. Subclasses that are pooled (see <code>UnitPool</code>)
+	 * reset the rest of their state, then call this.
+	 * 
+	 * @since October 18, 2026
+	 */
+	protected void reset( Color color, double x, double y, double dx, double dy )
+	{
+		this.color = color;
+		age = 0;
+		setLocation( x, y );
+		setVelocity( dx, dy );
+		setRemoved( false );
+	}
+
 	@Override
 	public void inBlackHole()
 	{
@@ -70,6 +85,49 @@ public abstract class Unit extends GameObject
 
 	public abstract double getRadius();
 
+	/**
+	 * Returns how far from our location we might draw anything. Units farther than this off screen aren't drawn.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public double getDrawRadius()
+	{
+		// Leave room for trails.
+		return getRadius() + 10;
+	}
+
+	/**
+	 * @since October 18, 2026
+	 */
+	@Override
+	public double getCollisionRadius()
+	{
+		return getRadius();
+	}
+
+	/**
+	 * Returns whether we move farther than our radius in a step. Checking where we are won't do for fast units; they
+	 * can pass right through something between steps.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public boolean isFast()
+	{
+		return getDx() * getDx() + getDy() * getDy() > getRadius() * getRadius();
+	}
+
+	/**
+	 * Returns whether we touched the given object somewhere along the last step, by its own shape (see
+	 * <code>GameObject.isTouchingPath</code>). Our circle is swept along the whole path we took relative to the
+	 * object, however far that was.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public boolean sweptTouches( GameObject go )
+	{
+		return go.isTouchingPath( getX(), getY(), getDx() - go.getDx(), getDy() - go.getDy(), getRadius() );
+	}
+
 	public abstract void explode();
 
 	public abstract int getDamage();
@@ -0,0 +1,78 @@
+/*
+ * DISASTEROIDS
+ * UnitPool.java
+ */
+package disasteroids.game.weapons;
+
+import java.util.ArrayList;
+
+import disasteroids.game.Game;
+
+/**
+ * Keeps removed units of one type so that their weapon can fire them again, instead of making new ones.
+ *
+ * Units go in when their weapon removes them (see <code>Weapon.recycle</code>), and come back out through
+ * <code>obtain</code>, after which the weapon reinitializes them as if they were new. A unit isn't handed out again
+ * until the step it was removed in is over, since the collision grid and this step's contacts may still refer to it.
+ * The pool holds a limited number; past that, removed units are left for the garbage collector.
+ *
+ * Not synchronized: only the game thread should use it.
+ *
+ * @author Phillip Cohen
+ * @since October 18, 2026
+ */
+class UnitPool<T extends Unit>
+{
+	/**
+	 * Units that can be handed out, and units removed during <code>pendingStep</code>.
+	 */
+	private final ArrayList<T> free, pending;
+
+	private long pendingStep = 0;
+
+	private final int capacity;
+
+	/**
+	 * Creates a pool that holds up to <code>capacity</code> units.
+	 */
+	UnitPool( int capacity )
+	{
+		this.capacity = capacity;
+		free = new ArrayList<T>( capacity );
+		pending = new ArrayList<T>( capacity );
+	}
+
+	/**
+	 * Returns a unit removed in an earlier step to reuse, or <code>null</code> if there aren't any.
+	 */
+	T obtain()
+	{
+		settle();
+		return free.isEmpty() ? null : free.remove( free.size() - 1 );
+	}
+
+	/**
+	 * Keeps a removed unit for later, if there's room.
+	 */
+	void release( T u )
+	{
+		settle();
+		if ( free.size() + pending.size() < capacity )
+			pending.add( u );
+	}
+
+	/**
+	 * Makes the units removed in earlier steps available.
+	 */
+	private void settle()
+	{
+		long step = Game.getInstance().timeStep;
+		if ( step == pendingStep )
+			return;
+
+		for ( int i = 0; i < pending.size(); i++ )
+			free.add( pending.get( i ) );
+		pending.clear();
+		pendingStep = step;
+	}
+}
@@ -20,6 +20,7 @@ import disasteroids.game.objects.Ship;
 import disasteroids.game.objects.ShootingObject;
 import disasteroids.gui.Local;
 import disasteroids.gui.MainWindow;
+import disasteroids.gui.RelativeGraphics;
 import disasteroids.networking.Client;
 import disasteroids.networking.Constants;
 import disasteroids.networking.Server;
@@ -82,12 +83,15 @@ public abstract class Weapon implements GameElement
 	}
 
 	/**
-	 * Draws this weapon's units.
+	 * Draws this weapon's units, skipping any that are off screen.
 	 */
 	public void draw( Graphics g )
 	{
 		for ( Unit u : units )
-			u.draw( g );
+		{
+			if ( RelativeGraphics.isOnScreen( u.getX(), u.getY(), u.getDrawRadius() ) )
+				u.draw( g );
+		}
 	}
 
 	/**
@@ -194,6 +198,11 @@ public abstract class Weapon implements GameElement
 	 */
 	public void clear()
 	{
+		for ( Unit u : units )
+		{
+			u.setRemoved( true );
+			recycle( u );
+		}
 		units.clear();
 	}
 
@@ -202,7 +211,19 @@ public abstract class Weapon implements GameElement
 	 */
 	public void remove( Unit u )
 	{
-		units.remove( u );
+		u.setRemoved( true );
+		if ( units.remove( u ) )
+			recycle( u );
+	}
+
+	/**
+	 * Called when one of our units is removed from play. Weapons that pool their units (see <code>UnitPool</code>)
+	 * keep it here to fire again. Does nothing by default.
+	 * 
+	 * @since October 18, 2026
+	 */
+	protected void recycle( Unit u )
+	{
 	}
 
 	/**
@@ -7,11 +7,13 @@ package disasteroids.gui;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.Random;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
-import disasteroids.Main;
 import disasteroids.Settings;
 import disasteroids.Util;
 import disasteroids.game.Game;
@@ -30,10 +32,40 @@ public class Background
 	private int width, height;
 
 	/**
-	 * The array of <code>Star</code>s that are always drawn.
+	 * The font messages are written in, unless they say otherwise.
+	 * @since October 18, 2026
+	 */
+	private static final Font MESSAGE_FONT = new Font( "Century Gothic", Font.BOLD, 10 );
+
+	/**
+	 * How many depth bands the still stars are baked into.
+	 * @since October 18, 2026
+	 */
+	private static final int LAYER_COUNT = 4;
+
+	/**
+	 * The size of each layer's tile. They differ, so the tiles don't line up into an obvious pattern.
+	 * @since October 18, 2026
+	 */
+	private static final int[] TILE_SIZES = { 509, 577, 641, 701 };
+
+	/**
+	 * The deepest a star can be. Multiplied by the localPlayer's dx and dy to determine speed.
+	 * @since October 18, 2026
+	 */
+	private static final double MAX_DEPTH = 0.5;
+
+	/**
+	 * The still stars, baked into one tile per depth band, from the back to the front.
+	 * @since October 18, 2026
+	 */
+	private volatile Layer[] layers;
+
+	/**
+	 * The <code>Star</code>s that twinkle or move, drawn one at a time over the layers.
 	 * @since December 16, 2007
 	 */
-	private Star[] theStars;
+	private volatile Star[] theStars;
 
 	/**
 	 * Messages that are to be drawn temporarily on the star background.
@@ -65,84 +97,151 @@ public class Background
 	}
 
 	/**
-	 * Creates the <code>background</code> image and <code>Star</code> array.
-	 * Uses hardware acceleration, if desired.
+	 * Creates the star layers and the <code>Star</code> array.
+	 * 
+	 * Stars are generated as they always were. The ones that twinkle or move are kept as <code>Star</code>s; the rest
+	 * are baked into their depth band's tile, which is drawn as a handful of images.
 	 * 
 	 * @since Classic
 	 */
 	public void init()
 	{
-		// Create the array of stars.
 		Random rand = Util.getGraphicsRandomGenerator();
-		this.theStars = new Star[( width * height / ( rand.nextInt( 600 ) + 750 ) )];
-		for ( int star = 0; star < theStars.length; star++ )
+		int density = rand.nextInt( 600 ) + 750;
+
+		// Bake the still stars.
+		Layer[] newLayers = new Layer[LAYER_COUNT];
+		for ( int l = 0; l < LAYER_COUNT; l++ )
+			newLayers[l] = new Layer( TILE_SIZES[l], MAX_DEPTH * ( l + 0.5 ) / LAYER_COUNT );
+		for ( int l = 0; l < LAYER_COUNT; l++ )
+		{
+			int size = TILE_SIZES[l];
+			for ( int i = size * size / density; i > 0; i-- )
+			{
+				Star star = new Star( rand.nextInt( size ), rand.nextInt( size ), randomColor( rand ) );
+				if ( !star.isStill() || getLayer( star.depth ) != l )
+					continue;
+				newLayers[l].image.setRGB( (int) star.x, (int) star.y, star.color.getRGB() );
+			}
+		}
+
+		// Keep the rest.
+		ArrayList<Star> moving = new ArrayList<Star>();
+		for ( int i = width * height / density; i > 0; i-- )
 		{
-			Color col = Color.getHSBColor( rand.nextFloat(), rand.nextFloat() / 3f, .1f + .9f * rand.nextFloat() );
-			theStars[star] = new Star( rand.nextInt( width ), rand.nextInt( height ), col );
+			Star star = new Star( rand.nextInt( width ), rand.nextInt( height ), randomColor( rand ) );
+			if ( !star.isStill() )
+				moving.add( star );
 		}
+
+		layers = newLayers;
+		theStars = moving.toArray( new Star[moving.size()] );
+	}
+
+	private static Color randomColor( Random rand )
+	{
+		return Color.getHSBColor( rand.nextFloat(), rand.nextFloat() / 3f, .1f + .9f * rand.nextFloat() );
+	}
+
+	/**
+	 * Returns which layer a star of the given depth goes in.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static int getLayer( double depth )
+	{
+		return Math.min( LAYER_COUNT - 1, (int) ( depth / MAX_DEPTH * LAYER_COUNT ) );
 	}
 
 	/**
 	 * Renders the <code>background</code>.
-	 * Uses hardware acceleration, if desired.
 	 * 
-	 * @return the rendered background
 	 * @since Classic
 	 */
 	public void render( Graphics g )
 	{
-		// Fill with black. Fill way past the screen, just to be safe
+		if ( MainWindow.frame() == null || Local.getLocalPlayer() == null )
+			return;
+		int screenWidth = MainWindow.frame().getWidth(), screenHeight = MainWindow.frame().getHeight();
+
+		// Fill with black.
 		g.setColor( Color.black );
-		g.fillRect( 0, 0, MainWindow.frame().getWidth(), MainWindow.frame().getHeight() );
+		g.fillRect( 0, 0, screenWidth, screenHeight );
 
-		// Draw stars.
-		try
+		// Draw the layers, tiled across the screen. Skip the back one in speed rendering.
+		Layer[] currentLayers = layers;
+		for ( int l = Settings.isQualityRendering() ? 0 : 1; l < currentLayers.length; l++ )
 		{
-			GameCanvas.updateQualityRendering( g, false );
-			int count = 0;
-			for ( Star star : this.theStars )
+			Layer layer = currentLayers[l];
+			int size = layer.image.getWidth();
+			int left = mod( screenWidth / 2 - RelativeGraphics.getCameraX() + layer.offsetX + MainWindow.frame().getRumbleX(), size ) - size;
+			int top = mod( screenHeight / 2 - RelativeGraphics.getCameraY() + layer.offsetY + MainWindow.frame().getRumbleY(), size ) - size;
+			for ( int x = left; x < screenWidth; x += size )
 			{
-				synchronized ( this )
-				{
-					// Skip every 3rd star in speed rendering, don't draw null stars, and make sure nothing else is null
-					if ( ( !Settings.isQualityRendering() && ++count % 3 == 0 ) || star == null || MainWindow.frame() == null || Local.getLocalPlayer() == null )
-						continue;
-					double x = RelativeGraphics.translateX( star.x ), y = RelativeGraphics.translateY( star.y );
-					if ( x > 0 && y > 0 && x < MainWindow.frame().getWidth() && y < MainWindow.frame().getHeight() )
-					{
-						g.setColor( star.getColor() );
-						g.drawRect( (int) x, (int) y, 0, 0 );
-					}
-				}
+				for ( int y = top; y < screenHeight; y += size )
+					g.drawImage( layer.image, x, y, null );
 			}
-			GameCanvas.updateQualityRendering( g, Settings.isQualityRendering() );
 		}
-		catch ( NullPointerException e )
+
+		// Draw the stars that twinkle and move.
+		for ( Star star : theStars )
 		{
-			Main.warning( "Star Null Pointer :(", e );
+			double x = RelativeGraphics.translateX( star.x ), y = RelativeGraphics.translateY( star.y );
+			if ( x > 0 && y > 0 && x < screenWidth && y < screenHeight )
+			{
+				g.setColor( star.getColor() );
+				g.drawRect( (int) x, (int) y, 0, 0 );
+			}
 		}
 
 		// Draw background messages.
+		for ( BackgroundMessage m : starMessages )
+			m.draw( g );
+	}
+
+	/**
+	 * Moves and ages the background messages. Called by the drawing thread once a frame, before <code>render</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public void ageMessages()
+	{
 		Iterator<BackgroundMessage> itr = starMessages.iterator();
 		while ( itr.hasNext() )
 		{
 			BackgroundMessage m = itr.next();
-			m.draw( g );
+			m.y += m.dy;
 			if ( m.life-- <= 0 )
 				itr.remove();
 		}
 	}
 
+	/**
+	 * Returns <code>value</code> rounded and wrapped into [0, <code>size</code>).
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static int mod( double value, int size )
+	{
+		return ( (int) Math.round( value ) % size + size ) % size;
+	}
+
 	public void act()
 	{
 		if ( theStars == null )
 			return;
+
+		double playerDx = Local.getLocalPlayer().getDx(), playerDy = Local.getLocalPlayer().getDy();
+		for ( Layer layer : layers )
+		{
+			layer.offsetX = ( layer.offsetX - playerDx * layer.depth ) % layer.image.getWidth();
+			layer.offsetY = ( layer.offsetY - playerDy * layer.depth ) % layer.image.getHeight();
+		}
+
 		for ( Star star : theStars )
 		{
-			if ( star == null )
-				continue;
-			star.x += star.dx - Local.getLocalPlayer().getDx() * star.depth;
-			star.y += star.dy - Local.getLocalPlayer().getDy() * star.depth;
+			star.x += star.dx - playerDx * star.depth;
+			star.y += star.dy - playerDy * star.depth;
 			star.checkWrap();
 		}
 	}
@@ -187,6 +286,15 @@ public class Background
 
 		private int twinkleCount = 0;
 
+		/**
+		 * Returns whether we neither twinkle nor move on our own, and so can be baked into a layer.
+		 * @since October 18, 2026
+		 */
+		public boolean isStill()
+		{
+			return !twinkle && dx == 0 && dy == 0;
+		}
+
 		public Star( int x, int y, Color col )
 		{
 			this.x = x;
@@ -196,7 +304,7 @@ public class Background
 			if ( twinkle )
 				twinkleCount = Util.getGraphicsRandomGenerator().nextInt( 50 );
 			// Simulated depth. Multiplied by the localPlayer's dx and dy to determine speed.
-			depth = Util.getGraphicsRandomGenerator().nextDouble() * .5;
+			depth = Util.getGraphicsRandomGenerator().nextDouble() * MAX_DEPTH;
 
 			// Force some to the 'background'.
 			if ( Util.getGraphicsRandomGenerator().nextInt( 15 ) == 0 )
@@ -235,6 +343,29 @@ public class Background
 		}
 	}
 
+	/**
+	 * One depth band of still stars: a tile of them, and how far the tile has drifted.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static class Layer
+	{
+		final BufferedImage image;
+
+		/**
+		 * How far the band moves for each pixel the localPlayer does.
+		 */
+		final double depth;
+
+		volatile double offsetX = 0, offsetY = 0;
+
+		Layer( int size, double depth )
+		{
+			this.image = SpriteCache.createImage( size, size );
+			this.depth = depth;
+		}
+	}
+
 	/**
 	 * A message drawn on the star background.
 	 * @author Andy Kooiman
@@ -254,16 +385,17 @@ public class Background
 
 		public Font font;
 
+		/**
+		 * The message's lines, laid out; and the shades it fades through.
+		 * @since October 18, 2026
+		 */
+		private HudText[] lines;
+
+		private Color[] palette;
+
 		public BackgroundMessage( double x, double y, String message, Color col )
 		{
-			this.x = x;
-			this.y = y;
-			this.message = message;
-			this.col = col;
-
-			life = lifeMax = Util.getGraphicsRandomGenerator().nextInt( 30 ) + 40;
-			dy = -Util.getGraphicsRandomGenerator().nextDouble() * 4;
-			font = new Font( "Century Gothic", Font.BOLD, 10 );
+			this( x, y, message, -Util.getGraphicsRandomGenerator().nextDouble() * 4, col, Util.getGraphicsRandomGenerator().nextInt( 30 ) + 40, MESSAGE_FONT );
 		}
 
 		public BackgroundMessage( double x, double y, String message, double dy, Color col, int life, Font font )
@@ -275,16 +407,29 @@ public class Background
 			this.col = col;
 			this.life = lifeMax = life;
 			this.font = font;
+
+			// drawString doesn't support linebreaks, so we do that here.
+			String[] text = message.split( "\n" );
+			lines = new HudText[text.length];
+			for ( int i = 0; i < text.length; i++ )
+				lines[i] = new HudText( font, text[i] );
 		}
 
 		private void draw( Graphics gBack )
 		{
-			y += dy;
+			if ( palette == null )
+				palette = ParticleManager.getPalette( col.getRGB() );
 
-			Color c = new Color( col.getRed() * life / lifeMax, col.getGreen() * life / lifeMax, col.getBlue() * life / lifeMax );
+			int drawX = RelativeGraphics.translateX( dy == 0 ? x : x + 3 * Math.cos( life / 5.0 ) ), drawY = RelativeGraphics.translateY( y );
+			if ( drawX <= -50 || drawX >= MainWindow.frame().getWidth() || drawY <= -50 || drawY >= MainWindow.frame().getHeight() )
+				return;
 
-			gBack.setFont( font );
-			MainWindow.frame().drawString( gBack, (int) ( dy == 0 ? x : x + 3 * Math.cos( life / 5.0 ) ), (int) y, message, c );
+			gBack.setColor( palette[Math.max( 0, Math.min( ParticleManager.FADE_LEVELS - 1, life * ( ParticleManager.FADE_LEVELS - 1 ) / lifeMax ) )] );
+			for ( HudText line : lines )
+			{
+				line.draw( (Graphics2D) gBack, drawX - line.getWidth() / 2, drawY );
+				drawY += line.getHeight();
+			}
 		}
 	}
 }
@@ -9,12 +9,15 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Image;
 import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
+import javax.swing.SwingUtilities;
+
 import disasteroids.Main;
 import disasteroids.Settings;
 import disasteroids.Util;
@@ -32,10 +35,11 @@ import disasteroids.sound.Sound;
 public class GameCanvas extends Canvas
 {
 	/**
-	 * The <code>Image</code> used for double buffering.
-	 * @since Classic
+	 * The accelerated back buffers we draw into and flip to the screen. Created on the first frame, and again after
+	 * we're re-shown (they go with our peer; see <code>removeNotify</code>).
+	 * @since October 18, 2026
 	 */
-	Image virtualMem;
+	private volatile BufferStrategy bufferStrategy = null;
 
 	/**
 	 * The star background.
@@ -104,19 +108,73 @@ public class GameCanvas extends Canvas
 	 */
 	MainWindow parent;
 
+	/**
+	 * Fonts and colors for the HUD, made once.
+	 * @since October 18, 2026
+	 */
+	private static final Font HELP_TITLE_FONT = new Font( "Tahoma", Font.BOLD, 56 ), HELP_HEADING_FONT = new Font( "Tahoma", Font.BOLD, 18 ), HELP_FONT = new Font( "Tahoma", Font.BOLD, 14 ),
+			SCOREBOARD_TITLE_FONT = new Font( "Tahoma", Font.BOLD, 24 ), SCOREBOARD_FONT = new Font( "Tahoma", Font.PLAIN, 16 ), SCOREBOARD_HEADER_FONT = new Font( "Tahoma", Font.PLAIN, 14 ),
+			SCOREBOARD_BOLD_FONT = SCOREBOARD_HEADER_FONT.deriveFont( Font.BOLD ), SCOREBOARD_SMALL_FONT = new Font( "Tahoma", Font.PLAIN, 12 );
+
+	private static final Color HEALTH_FILL = new Color( 9, 68, 12 ), HEALTH_OUTLINE = new Color( 21, 98, 28 ), SHIELD_FILL = new Color( 5, 100, 100 ), SHIELD_OUTLINE = new Color( 5, 150, 150 );
+
+	/**
+	 * The HUD's text, laid out. Each is only laid out again when what it says changes.
+	 * @since October 18, 2026
+	 */
+	private final HudText helpTitle = new HudText( HELP_TITLE_FONT, "Help" ), serverAddressText = new HudText( HELP_FONT );
+
+	private final HudText[] helpBasics = { new HudText( HELP_HEADING_FONT, "BASICS" ), new HudText( HELP_FONT, "Arrow keys = move" ), new HudText( HELP_FONT, "Space = shoot" ), new HudText( HELP_FONT, "Q = change weapons" ) };
+
+	private final HudText[] helpAdvanced = { new HudText( HELP_HEADING_FONT, "ADVANCED" ), new HudText( HELP_FONT, "Ctrl and Numpad0 = strafe" ), new HudText( HELP_FONT, "End = brake" ), new HudText( HELP_FONT, "~ = berserk!" ),
+			new HudText( HELP_FONT, "Number keys = quick switch to weapons" ), new HudText( HELP_FONT, "Home = detonate missiles" ) };
+
+	private final HudText gameOverText = new HudText( new Font( "Tahoma", Font.BOLD, 32 ), "GAME OVER!" ), waitingText = new HudText( HELP_HEADING_FONT, "Waiting for server..." ), pausedText = new HudText( SCOREBOARD_TITLE_FONT, "Paused." );
+
+	private final HudText scoreText = new HudText( HudText.COUNTER_FONT ), scoreLabel = new HudText( HudText.LABEL_FONT, "score" ), livesText = new HudText( HudText.COUNTER_FONT ), lifeLabel = new HudText( HudText.LABEL_FONT, "life" ),
+			manyLivesLabel = new HudText( HudText.LABEL_FONT, "lives" ), fpsText = new HudText( HudText.COUNTER_FONT ), fpsLabel = new HudText( HudText.LABEL_FONT, "fps" ), averageFPSText = new HudText( HudText.LABEL_FONT );
+
+	private final HudText scoreboardTitle = new HudText( SCOREBOARD_TITLE_FONT, "Scoreboard" ), remainingText = new HudText( SCOREBOARD_FONT ), highScorerText = new HudText( SCOREBOARD_SMALL_FONT ),
+			egoText = new HudText( SCOREBOARD_SMALL_FONT );
+
+	/**
+	 * What the text above was last made from, so it's only remade when that changes.
+	 * @since October 18, 2026
+	 */
+	private int lastAverageFPS = -1, lastAsteroidCount = -1, lastBaddieCount = -1, scoreboardWidth = -1;
+
+	private double lastOldHighScore = -1, lastHighScore = -1;
+
+	private String lastOldHighScorer = null, lastHighScoreName = null;
+
+	private ScoreboardColumn[] scoreboardColumns = null;
+
 	/**
 	 * Whether we're in the drawHUD() loop.
 	 */
-	private boolean isDrawing = false;
+	private volatile boolean isDrawing = false;
 
 	public GameCanvas( MainWindow parent )
 	{
 		this.parent = parent;
+		setIgnoreRepaint( true );
 		background = new Background( Game.getInstance().GAME_WIDTH, Game.getInstance().GAME_HEIGHT );
 		benchmarkFPS = new LinkedList<Integer>();
 		setKeyListener();
 	}
 
+	/**
+	 * Our buffers are torn down with our peer (say, when going fullscreen), so let go of them.
+	 * 
+	 * @since October 18, 2026
+	 */
+	@Override
+	public void removeNotify()
+	{
+		bufferStrategy = null;
+		super.removeNotify();
+	}
+
 	public void setKeyListener()
 	{
 		// Receive key events.
@@ -125,27 +183,17 @@ public class GameCanvas extends Canvas
 	}
 
 	/**
-	 * Draws all of the game elements.
+	 * Moves along everything that changes once a frame: the FPS counter and high score, the camera, particles and
+	 * messages. Kept out of <code>draw</code>, which is run again whenever the buffers are lost.
+	 * 
+	 * @since October 18, 2026
 	 */
-	private void draw( Graphics g )
+	private void beginFrame()
 	{
-		if ( Local.isStuffNull() )
-			return;
-
-		if ( !GameLoop.isRunning() )
-		{
-			isDrawing = false;
+		if ( Local.isStuffNull() || !GameLoop.isRunning() )
 			return;
-		}
 		isDrawing = true;
 
-		// Adjust the thread's priority.
-		if ( Thread.currentThread().getPriority() != Thread.MIN_PRIORITY )
-			Thread.currentThread().setPriority( Thread.MIN_PRIORITY );
-
-		// Anti-alias, if the user wants it.
-		updateQualityRendering( g, Settings.isQualityRendering() );
-
 		// Calculate FPS.
 		if ( ++paintCount % 10 == 0 )
 		{
@@ -194,6 +242,40 @@ public class GameCanvas extends Canvas
 
 		}
 
+		// Pick up the latest snapshot, and point the camera.
+		Game.getInstance().getObjectManager().getRenderSnapshot().beginFrame();
+
+		ParticleManager.act();
+		if ( background != null )
+			background.ageMessages();
+
+		// Age the notification messages.
+		Iterator<NotificationMessage> itr = notificationMessages.iterator();
+		while ( itr.hasNext() )
+		{
+			if ( itr.next().life-- <= 0 )
+				itr.remove();
+		}
+	}
+
+	/**
+	 * Draws all of the game elements. Call <code>beginFrame</code> first.
+	 */
+	private void draw( Graphics g )
+	{
+		if ( Local.isStuffNull() )
+			return;
+
+		if ( !GameLoop.isRunning() )
+		{
+			isDrawing = false;
+			return;
+		}
+		isDrawing = true;
+
+		// Anti-alias, if the user wants it.
+		updateQualityRendering( g, Settings.isQualityRendering() );
+
 		// Draw the star background.
 		if ( background == null )
 			background = new Background( Game.getInstance().GAME_WIDTH, Game.getInstance().GAME_HEIGHT );
@@ -231,14 +313,23 @@ public class GameCanvas extends Canvas
 	}
 
 	/**
-	 * Does all of the gamer's rendering.
+	 * Does all of the gamer's rendering: draws a frame into the back buffer and shows it. Called by the
+	 * <code>RenderLoop</code>.
+	 * 
+	 * @param sync whether to flush the frame to the display before returning
+	 * @since October 18, 2026
 	 */
-	@Override
-	public void paint( Graphics g )
+	void renderFrame( boolean sync )
 	{
-		// Create the image if needed.
-		if ( virtualMem == null )
-			virtualMem = createImage( getWidth(), getHeight() );
+		// Create the buffers if needed (and if we can). Double buffering is enough, since we pace frames ourselves.
+		BufferStrategy bufferStrategy = this.bufferStrategy;
+		if ( bufferStrategy == null )
+		{
+			if ( !isDisplayable() )
+				return;
+			createBufferStrategy( 2 );
+			bufferStrategy = this.bufferStrategy = getBufferStrategy();
+		}
 
 		// Flashing game objects.
 		Util.flipGlobalFlash();
@@ -253,19 +344,54 @@ public class GameCanvas extends Canvas
 			rumble *= 0.9;
 		}
 
+		// Dialogs belong on the event thread.
 		if ( showWarpDialog )
 		{
-			Game.getInstance().getLevel().optionsKey();
 			showWarpDialog = false;
+			SwingUtilities.invokeLater( new Runnable()
+			{
+				public void run()
+				{
+					Game.getInstance().getLevel().optionsKey();
+				}
+			} );
 		}
 
-		// Draw the game's graphics.
-		draw( virtualMem.getGraphics() );
+		// Draw the game's graphics, redrawing if the buffers were lost along the way.
+		beginFrame();
+		do
+		{
+			do
+			{
+				Graphics g = bufferStrategy.getDrawGraphics();
+				try
+				{
+					long drawStart = System.nanoTime();
+					draw( g );
+					ParticleBudget.frameDrawn( System.nanoTime() - drawStart );
+				}
+				finally
+				{
+					g.dispose();
+				}
+			}
+			while ( bufferStrategy.contentsRestored() );
 
-		// Flip the buffer to the screen.
-		g.drawImage( virtualMem, 0, 0, this );
+			// Flip the buffer to the screen.
+			bufferStrategy.show();
+		}
+		while ( bufferStrategy.contentsLost() );
 
-		repaint();
+		if ( sync )
+			Toolkit.getDefaultToolkit().sync();
+	}
+
+	/**
+	 * Does nothing; the <code>RenderLoop</code> draws every frame itself.
+	 */
+	@Override
+	public void paint( Graphics g )
+	{
 	}
 
 	/**
@@ -287,7 +413,6 @@ public class GameCanvas extends Canvas
 	private void drawHud( Graphics g )
 	{
 		Graphics2D g2d = (Graphics2D) g;
-		String text = "";
 		int x = 0, y = 0;
 
 		// Draw level status.
@@ -296,181 +421,152 @@ public class GameCanvas extends Canvas
 		if ( showHelp )
 		{
 			g2d.setColor( Color.white );
-			g2d.setFont( new Font( "Tahoma", Font.BOLD, 56 ) );
-			g2d.drawString( "Help", 250, 250 );
+			helpTitle.draw( g2d, 250, 250 );
 
 			y = 340;
-			g2d.setFont( new Font( "Tahoma", Font.BOLD, 18 ) );
-			g2d.drawString( "BASICS", 250, y );
-
-			g2d.setFont( new Font( "Tahoma", Font.BOLD, 14 ) );
-			g2d.setColor( Color.lightGray );
-			y += (int) ( g2d.getFont().getStringBounds( "A", g2d.getFontRenderContext() ).getHeight() );
-			g2d.drawString( "Arrow keys = move", 250, y );
-			y += (int) ( g2d.getFont().getStringBounds( "A", g2d.getFontRenderContext() ).getHeight() );
-			g2d.drawString( "Space = shoot", 250, y );
-			y += (int) ( g2d.getFont().getStringBounds( "A", g2d.getFontRenderContext() ).getHeight() );
-			g2d.drawString( "Q = change weapons", 250, y );
-			y += (int) ( g2d.getFont().getStringBounds( "A", g2d.getFontRenderContext() ).getHeight() );
-
+			y = drawHelpSection( g2d, helpBasics, y );
 			y += 50;
-
-			g2d.setColor( Color.white );
-			g2d.setFont( new Font( "Tahoma", Font.BOLD, 18 ) );
-			g2d.drawString( "ADVANCED", 250, y );
-
-			g2d.setFont( new Font( "Tahoma", Font.BOLD, 14 ) );
-			g2d.setColor( Color.lightGray );
-			y += (int) ( g2d.getFont().getStringBounds( "A", g2d.getFontRenderContext() ).getHeight() );
-			g2d.drawString( "Ctrl and Numpad0 = strafe", 250, y );
-			y += (int) ( g2d.getFont().getStringBounds( "A", g2d.getFontRenderContext() ).getHeight() );
-			g2d.drawString( "End = brake", 250, y );
-			y += (int) ( g2d.getFont().getStringBounds( "A", g2d.getFontRenderContext() ).getHeight() );
-			g2d.drawString( "~ = berserk!", 250, y );
-			y += (int) ( g2d.getFont().getStringBounds( "A", g2d.getFontRenderContext() ).getHeight() );
-			g2d.drawString( "Number keys = quick switch to weapons", 250, y );
-			y += (int) ( g2d.getFont().getStringBounds( "A", g2d.getFontRenderContext() ).getHeight() );
-			g2d.drawString( "Home = detonate missiles", 250, y );
-			y += (int) ( g2d.getFont().getStringBounds( "A", g2d.getFontRenderContext() ).getHeight() );
+			y = drawHelpSection( g2d, helpAdvanced, y );
 			if ( Server.is() || Client.is() )
 			{
-				y += (int) ( g2d.getFont().getStringBounds( "A", g2d.getFontRenderContext() ).getHeight() * 2 );
-				g2d.drawString( "Server IP: " + ( Server.is() ? Server.getLocalIP() : Client.getInstance().getServerAddress().toString() ), 250, y );
+				if ( serverAddressText.getText().length() == 0 )
+					serverAddressText.setText( "Server IP: " + ( Server.is() ? Server.getLocalIP() : Client.getInstance().getServerAddress().toString() ) );
+				y += serverAddressText.getHeight() * 2;
+				serverAddressText.draw( g2d, 250, y );
 			}
-
 		}
 
 		if ( Local.getLocalPlayer().livesLeft() < 0 && !Server.is() && !Client.is() )
 		{
-			g2d.setFont( new Font( "Tahoma", Font.BOLD, 32 ) );
 			g2d.setColor( parent.localPlayer().getColor() );
-			text = "GAME OVER!";
-			x = getWidth() / 2 - (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth() / 2;
-			y = (int) ( getHeight() / 2 - g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getHeight() ) - 32;
-			g2d.drawString( text, x, y );
+			x = getWidth() / 2 - gameOverText.getWidth() / 2;
+			y = getHeight() / 2 - gameOverText.getHeight() - 32;
+			gameOverText.draw( g2d, x, y );
 			return;
 		}
 
 		// Draw the score counter.
 		g2d.setColor( Color.gray );
-		g2d.setFont( new Font( "Tahoma", Font.BOLD, 16 ) );
-		text = Util.insertThousandCommas( parent.localPlayer().getScore() );
+		scoreText.setNumber( parent.localPlayer().getScore() );
 		y = 18;
-		x = getWidth() - (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth() - 12;
-		g2d.drawString( text, x, y );
+		x = getWidth() - scoreText.getWidth() - 12;
+		scoreText.draw( g2d, x, y );
 
 		// Draw the "score" string.
-		g2d.setFont( new Font( "Tahoma", Font.ITALIC, 12 ) );
-		text = "score";
-		x -= (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth() + 8;
-		g2d.drawString( text, x, y );
-		x -= (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth() + 8;
+		x -= scoreLabel.getWidth() + 8;
+		scoreLabel.draw( g2d, x, y );
+		x -= scoreLabel.getWidth() + 8;
 
 		if ( showTracker )
+		{
+			g2d.setFont( HudText.LABEL_FONT );
 			g2d.drawString( parent.localPlayer().toString(), 60, 60 );
+			g2d.drawString( "tick: " + GameLoop.getLastTickTime() / 1000 + " us (peak " + GameLoop.getPeakTickTime() / 1000 + " us) @ " + GameLoop.getTickRate() + " Hz, " + GameLoop.getOverrunCount() + " overruns, "
+					+ GameLoop.getDroppedCount() + " dropped", 60, 75 );
+		}
 
 		// Draw the "lives" string.
 		g2d.setColor( parent.localPlayer().getColor() );
-		g2d.setFont( new Font( "Tahoma", Font.ITALIC, 12 ) );
-		if ( parent.localPlayer().livesLeft() == 1 )
-			text = "life";
-		else
-			text = "lives";
-
-		g2d.drawString( text, x, y );
+		HudText livesLabel = ( parent.localPlayer().livesLeft() == 1 ) ? lifeLabel : manyLivesLabel;
+		livesLabel.draw( g2d, x, y );
 		x -= 10;
 
 		// Draw the lives counter.
-		g2d.setFont( new Font( "Tahoma", Font.BOLD, 16 ) );
-		text = "" + parent.localPlayer().livesLeft();
-		x -= (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth();
-		g2d.drawString( text, x, y );
+		livesText.setNumber( parent.localPlayer().livesLeft() );
+		x -= livesText.getWidth();
+		livesText.draw( g2d, x, y );
 		x -= 15;
 
 		// Draw the fps counter.
 		g2d.setColor( Color.darkGray );
-		g2d.setFont( new Font( "Tahoma", Font.BOLD, 16 ) );
-		text = "" + lastFPS;
+		fpsText.setNumber( lastFPS );
 		x = 8;
-		y = (int) ( getHeight() - g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getHeight() ) - 2;
-		g2d.drawString( text, x, y );
+		y = getHeight() - fpsText.getHeight() - 2;
+		fpsText.draw( g2d, x, y );
 
 		// Draw the "fps" string.
-		x += (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth() + 8;
-		g2d.setFont( new Font( "Tahoma", Font.ITALIC, 12 ) );
-		text = "fps";
-		g2d.drawString( text, x, y );
+		x += fpsText.getWidth() + 8;
+		fpsLabel.draw( g2d, x, y );
 
 		// Draw the average FPS for this session.
 		if ( benchmarkFPS != null && benchmarkFPS.size() >= 60 )
 		{
 			g2d.setColor( benchmarkFPS.size() == 1 ? Color.lightGray : Color.darkGray );
-			g2d.setFont( new Font( "Tahoma", Font.ITALIC, 12 ) );
+			if ( averageFPS != lastAverageFPS )
+			{
+				averageFPSText.setText( "[avg this session: " + averageFPS + " ]" );
+				lastAverageFPS = averageFPS;
+			}
 			x -= 10;
 			y += 15;
-			text = "[avg this session: " + averageFPS + " ]";
-			g2d.drawString( text, x, y );
+			averageFPSText.draw( g2d, x, y );
 		}
 
 		// Draw energy.
 		x = getWidth() / 2 - 50;
 		y = 18;
 		{
-			g2d.setColor( new Color( 9, 68, 12 ) );
+			g2d.setColor( HEALTH_FILL );
 			g2d.fillRect( x, y, (int) ( parent.localPlayer().getHealth() ), 20 );
-			g2d.setColor( new Color( 21, 98, 28 ) );
+			g2d.setColor( HEALTH_OUTLINE );
 			g2d.drawRect( x, y, 100, 20 );
 		}
 		if ( parent.localPlayer().getShield() > 0 )
 		{
-			g2d.setColor( new Color( 5, 100, 100 ) );
+			g2d.setColor( SHIELD_FILL );
 			g2d.fillRect( x, y, (int) ( Math.min( 100, parent.localPlayer().getShield() ) ), 20 );
-			g2d.setColor( new Color( 5, 150, 150 ) );
+			g2d.setColor( SHIELD_OUTLINE );
 			g2d.drawRect( x, y, 100, 20 );
 		}
 
 		// Draw notification messages.
 		x = 8;
 		y = 20;
-		g2d.setFont( new Font( "Tahoma", Font.ITALIC, 12 ) );
 		g2d.setColor( Color.lightGray );
-		Iterator<NotificationMessage> itr = notificationMessages.iterator();
-
-		while ( itr.hasNext() )
+		for ( NotificationMessage m : notificationMessages )
 		{
-			NotificationMessage m = itr.next();
-			text = m.message;
-			g2d.drawString( text, x, y );
-			y += (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getHeight() + 2;
-			if ( m.life-- <= 0 )
-				itr.remove();
+			m.text.draw( g2d, x, y );
+			y += m.text.getHeight() + 2;
 		}
 
 		// Draw "waiting for server...".
 		if ( Client.is() && Client.getInstance().serverTimeout() )
 		{
-			g2d.setFont( new Font( "Tahoma", Font.BOLD, 18 ) );
 			g2d.setColor( Color.GREEN );
-
-			text = "Waiting for server...";
-			x = getWidth() / 2 - (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth() / 2;
+			x = getWidth() / 2 - waitingText.getWidth() / 2;
 			y = getHeight() / 2 - 50;
-
-			g2d.drawString( text, x, y );
+			waitingText.draw( g2d, x, y );
 		}
 
 		// Draw "pauses"...
 		if ( Game.getInstance().isPaused() )
 		{
-			g2d.setFont( new Font( "Tahoma", Font.BOLD, 24 ) );
 			g2d.setColor( Local.getLocalPlayer().getColor() );
-
-			text = "Paused.";
-			x = getWidth() / 2 - (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth() / 2;
+			x = getWidth() / 2 - pausedText.getWidth() / 2;
 			y = getHeight() / 3 - 50;
+			pausedText.draw( g2d, x, y );
+		}
+	}
+
+	/**
+	 * Draws a section of the help: a heading, then its lines.
+	 * 
+	 * @param section the heading, followed by the lines
+	 * @return where the next line would go
+	 * @since October 18, 2026
+	 */
+	private int drawHelpSection( Graphics2D g2d, HudText[] section, int y )
+	{
+		g2d.setColor( Color.white );
+		section[0].draw( g2d, 250, y );
 
-			g2d.drawString( text, x, y );
+		g2d.setColor( Color.lightGray );
+		for ( int i = 1; i < section.length; i++ )
+		{
+			y += section[i].getHeight();
+			section[i].draw( g2d, 250, y );
 		}
+		return y + section[section.length - 1].getHeight();
 	}
 
 	/**
@@ -482,78 +578,92 @@ public class GameCanvas extends Canvas
 	private void drawScoreboard( Graphics g )
 	{
 		Graphics2D g2d = (Graphics2D) g;
-		String text = "";
 		int x = 0, y = 0;
 
 		// Draw the "scoreboard" string.
 		g2d.setColor( Color.white );
-		g2d.setFont( new Font( "Tahoma", Font.BOLD, 24 ) );
-		text = "Scoreboard";
-		x = getWidth() / 2 - (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth() / 2;
+		x = getWidth() / 2 - scoreboardTitle.getWidth() / 2;
 		y = getHeight() / 4;
-		g2d.drawString( text, x, y );
-		y += (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getHeight() + 10;
+		scoreboardTitle.draw( g2d, x, y );
+		y += scoreboardTitle.getHeight() + 10;
 
 		// Draw the asteroid count.
 		g2d.setColor( Color.lightGray );
-		g2d.setFont( new Font( "Tahoma", Font.PLAIN, 16 ) );
-		text = Util.insertThousandCommas( Game.getInstance().getObjectManager().getAsteroids().size() ) + " asteroid" + ( Game.getInstance().getObjectManager().getAsteroids().size() == 1 ? ", " : "s, " );
-		text += Util.insertThousandCommas( Game.getInstance().getObjectManager().getBaddies().size() ) + " baddie" + ( Game.getInstance().getObjectManager().getBaddies().size() == 1 ? "" : "s" );
-		text += " remain";
-		x = getWidth() / 2 - (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth() / 2;
-		g2d.drawString( text, x, y );
-		y += (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getHeight() + 10;
+		int asteroids = Game.getInstance().getObjectManager().getAsteroids().size(), baddies = Game.getInstance().getObjectManager().getBaddies().size();
+		if ( asteroids != lastAsteroidCount || baddies != lastBaddieCount || remainingText.getText().length() == 0 )
+		{
+			String text = Util.insertThousandCommas( asteroids ) + " asteroid" + ( asteroids == 1 ? ", " : "s, " );
+			text += Util.insertThousandCommas( baddies ) + " baddie" + ( baddies == 1 ? "" : "s" );
+			text += " remain";
+			remainingText.setText( text );
+			lastAsteroidCount = asteroids;
+			lastBaddieCount = baddies;
+		}
+		x = getWidth() / 2 - remainingText.getWidth() / 2;
+		remainingText.draw( g2d, x, y );
+		y += remainingText.getHeight() + 10;
 
 		// Create the columns.
-		ScoreboardColumn[] columns = new ScoreboardColumn[4];
-		columns[0] = new ScoreboardColumn( getWidth() * 2 / 7, ScoreboardContent.NAME );
-		columns[1] = new ScoreboardColumn( getWidth() * 1 / 2, Game.getInstance().getGameMode().hasFlag( GameMode.FLAG_PLAYERSEARNKILLS ) ? ScoreboardContent.FRAGS : ScoreboardContent.SCORE );
-		columns[2] = new ScoreboardColumn( getWidth() * 3 / 5, ScoreboardContent.LIVES );
-		columns[3] = new ScoreboardColumn( getWidth() * 2 / 3, ScoreboardContent.ASTEROIDSDESTROYED );
+		boolean showFrags = Game.getInstance().getGameMode().hasFlag( GameMode.FLAG_PLAYERSEARNKILLS );
+		if ( scoreboardColumns == null || scoreboardWidth != getWidth() || ( scoreboardColumns[1].type == ScoreboardContent.FRAGS ) != showFrags )
+		{
+			scoreboardColumns = new ScoreboardColumn[4];
+			scoreboardColumns[0] = new ScoreboardColumn( getWidth() * 2 / 7, ScoreboardContent.NAME );
+			scoreboardColumns[1] = new ScoreboardColumn( getWidth() * 1 / 2, showFrags ? ScoreboardContent.FRAGS : ScoreboardContent.SCORE );
+			scoreboardColumns[2] = new ScoreboardColumn( getWidth() * 3 / 5, ScoreboardContent.LIVES );
+			scoreboardColumns[3] = new ScoreboardColumn( getWidth() * 2 / 3, ScoreboardContent.ASTEROIDSDESTROYED );
+			scoreboardWidth = getWidth();
+		}
+		ScoreboardColumn[] columns = scoreboardColumns;
 
 		// Draw the column headers.
 		y += 15;
 		g2d.setColor( Color.darkGray );
-		g2d.setFont( new Font( "Tahoma", Font.PLAIN, 14 ) );
 		for ( ScoreboardColumn c : columns )
-			g2d.drawString( c.type.getHeader(), c.x, y );
+			c.header.draw( g2d, c.x, y );
 
-		g2d.drawLine( columns[0].x, y + 5, columns[columns.length - 1].x + (int) g2d.getFont().getStringBounds( columns[columns.length - 1].type.getHeader(), g2d.getFontRenderContext() ).getWidth(), y + 5 );
-		y += (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getHeight() + 10;
+		ScoreboardColumn last = columns[columns.length - 1];
+		g2d.drawLine( columns[0].x, y + 5, last.x + last.header.getWidth(), y + 5 );
+		y += last.header.getHeight() + 10;
 
 		// Draw the entries.
 		for ( Ship s : Game.getInstance().getObjectManager().getPlayers() )
 		{
 			g2d.setColor( s.getColor() );
-			if ( s == parent.localPlayer() )
-				g2d.setFont( g2d.getFont().deriveFont( Font.BOLD ) );
-			else
-				g2d.setFont( g2d.getFont().deriveFont( Font.PLAIN ) );
+			g2d.setFont( s == parent.localPlayer() ? SCOREBOARD_BOLD_FONT : SCOREBOARD_HEADER_FONT );
 			for ( ScoreboardColumn column : columns )
 			{
 				g2d.drawString( ScoreboardContent.getContent( column.type, s ), column.x, y );
 			}
-			y += (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getHeight() + 3;
+			y += last.header.getHeight() + 3;
 		}
 
 		// Draw the high scorer.
-		g2d.setFont( new Font( "Tahoma", Font.PLAIN, 12 ) );
-		text = "All-time high scorer " + ( Settings.getOldHighScore() >= Settings.getHighScore() ? "is " : "was " ) + Settings.getOldHighScorer() + " with " + Util.insertThousandCommas( (int) Settings.getOldHighScore() ) + " points.";
-		x = getWidth() / 2 - (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth() / 2;
+		double oldHighScore = Settings.getOldHighScore(), highScore = Settings.getHighScore();
+		String oldHighScorer = Settings.getOldHighScorer(), highScoreName = Settings.getHighScoreName();
+		if ( oldHighScore != lastOldHighScore || highScore != lastHighScore || oldHighScorer != lastOldHighScorer || highScoreName != lastHighScoreName )
+		{
+			highScorerText.setText( "All-time high scorer " + ( oldHighScore >= highScore ? "is " : "was " ) + oldHighScorer + " with " + Util.insertThousandCommas( (int) oldHighScore ) + " points." );
+			if ( highScoreName.equals( oldHighScorer ) )
+				egoText.setText( "But hey, everyone likes to beat their own score." );
+			else
+				egoText.setText( "But you're much better with your shiny " + Util.insertThousandCommas( (int) highScore ) + "!" );
+			lastOldHighScore = oldHighScore;
+			lastHighScore = highScore;
+			lastOldHighScorer = oldHighScorer;
+			lastHighScoreName = highScoreName;
+		}
+		x = getWidth() / 2 - highScorerText.getWidth() / 2;
 		y += 40;
 		g2d.setColor( Color.white );
-		g2d.drawString( text, x, y );
+		highScorerText.draw( g2d, x, y );
 
 		// Boost player egos.
-		if ( Settings.getOldHighScore() < Settings.getHighScore() )
+		if ( oldHighScore < highScore )
 		{
-			y += (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getHeight() + 3;
-			if ( Settings.getHighScoreName().equals( Settings.getOldHighScorer() ) )
-				text = "But hey, everyone likes to beat their own score.";
-			else
-				text = "But you're much better with your shiny " + Util.insertThousandCommas( (int) Settings.getHighScore() ) + "!";
-			x = getWidth() / 2 - (int) g2d.getFont().getStringBounds( text, g2d.getFontRenderContext() ).getWidth() / 2;
-			g2d.drawString( text, x, y );
+			y += highScorerText.getHeight() + 3;
+			x = getWidth() / 2 - egoText.getWidth() / 2;
+			egoText.draw( g2d, x, y );
 		}
 	}
 
@@ -655,12 +765,11 @@ public class GameCanvas extends Canvas
 	}
 
 	/**
-	 * Included to prevent the clearing of the screen between repaints.
+	 * Included to prevent the clearing of the screen between frames.
 	 */
 	@Override
 	public void update( Graphics g )
 	{
-		paint( g );
 	}
 
 	public Background getStarBackground()
@@ -723,10 +832,17 @@ public class GameCanvas extends Canvas
 		 */
 		public ScoreboardContent type;
 
+		/**
+		 * The header, laid out.
+		 * @since October 18, 2026
+		 */
+		public HudText header;
+
 		public ScoreboardColumn( int x, ScoreboardContent type )
 		{
 			this.x = x;
 			this.type = type;
+			this.header = new HudText( SCOREBOARD_HEADER_FONT, type.getHeader() );
 		}
 	}
 
@@ -736,11 +852,18 @@ public class GameCanvas extends Canvas
 	{
 		public String message;
 
+		/**
+		 * The message, laid out.
+		 * @since October 18, 2026
+		 */
+		public HudText text;
+
 		public int life;
 
 		public NotificationMessage( String message, int life )
 		{
 			this.message = message;
+			this.text = new HudText( HudText.LABEL_FONT, message );
 			this.life = life;
 		}
 	}
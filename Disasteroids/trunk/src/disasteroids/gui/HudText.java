@@ -0,0 +1,140 @@
+/*
+ * DISASTEROIDS
+ * HudText.java
+ */
+package disasteroids.gui;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.Rectangle2D;
+
+import disasteroids.Settings;
+import disasteroids.Util;
+
+/**
+ * A piece of on-screen text that remembers how it's laid out.
+ *
+ * The glyphs and bounds are worked out when the text (or the rendering quality) changes, not every frame. Numbers
+ * (scores, lives, waves) can be set with <code>setNumber</code>, which only formats them when they change; so
+ * drawing unchanged text doesn't allocate anything.
+ *
+ * Only used by the drawing thread.
+ *
+ * @author Phillip Cohen
+ * @since October 18, 2026
+ */
+public class HudText
+{
+	/**
+	 * The fonts most of the HUD uses: big for values, small for what they are.
+	 */
+	public static final Font COUNTER_FONT = new Font( "Tahoma", Font.BOLD, 16 ), LABEL_FONT = new Font( "Tahoma", Font.ITALIC, 12 );
+
+	/**
+	 * How text is laid out in quality and speed rendering.
+	 */
+	private static final FontRenderContext QUALITY_CONTEXT = new FontRenderContext( null, true, true ), SPEED_CONTEXT = new FontRenderContext( null, false, false );
+
+	private final Font font;
+
+	private String text;
+
+	/**
+	 * The number last given to <code>setNumber</code>, if that's where our text came from.
+	 */
+	private int number;
+
+	private boolean isNumber = false;
+
+	/**
+	 * The laid-out text, and what it was laid out for; <code>null</code> when it needs doing again.
+	 */
+	private GlyphVector glyphs = null;
+
+	private FontRenderContext context = null;
+
+	private int width, height;
+
+	public HudText( Font font )
+	{
+		this( font, "" );
+	}
+
+	public HudText( Font font, String text )
+	{
+		this.font = font;
+		this.text = text;
+	}
+
+	/**
+	 * Changes the text. Does nothing if it's the same as before.
+	 */
+	public void setText( String text )
+	{
+		isNumber = false;
+		if ( text.equals( this.text ) )
+			return;
+
+		this.text = text;
+		glyphs = null;
+	}
+
+	/**
+	 * Changes the text to the given number, with thousands separators. Does nothing if it's the same as before.
+	 */
+	public void setNumber( int number )
+	{
+		if ( isNumber && number == this.number )
+			return;
+
+		setText( Util.insertThousandCommas( number ) );
+		this.number = number;
+		isNumber = true;
+	}
+
+	public String getText()
+	{
+		return text;
+	}
+
+	public Font getFont()
+	{
+		return font;
+	}
+
+	public int getWidth()
+	{
+		layout();
+		return width;
+	}
+
+	public int getHeight()
+	{
+		layout();
+		return height;
+	}
+
+	/**
+	 * Draws the text in the context's current color, with its baseline starting at (<code>x</code>, <code>y</code>).
+	 */
+	public void draw( Graphics2D g, int x, int y )
+	{
+		layout();
+		g.drawGlyphVector( glyphs, x, y );
+	}
+
+	private void layout()
+	{
+		FontRenderContext current = Settings.isQualityRendering() ? QUALITY_CONTEXT : SPEED_CONTEXT;
+		if ( glyphs != null && context == current )
+			return;
+
+		context = current;
+		glyphs = font.createGlyphVector( context, text );
+		Rectangle2D bounds = font.getStringBounds( text, context );
+		width = (int) bounds.getWidth();
+		height = (int) bounds.getHeight();
+	}
+}
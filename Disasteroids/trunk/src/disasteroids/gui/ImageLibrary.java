@@ -9,6 +9,15 @@ import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Toolkit;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Loads and stores the game's external graphics resources.
@@ -21,6 +30,57 @@ public class ImageLibrary
 	 */
 	private static Image asteroid, bonusAsteroid, alien, blackHole, station, stationTurret;
 
+	/**
+	 * How many bytes of tinted images we'll keep.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static final long TINT_MEMORY_BUDGET = 16L * 1024 * 1024;
+
+	/**
+	 * Images at least this big are hue shifted on several threads.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static final int PARALLEL_PIXELS = 256 * 256;
+
+	/**
+	 * How many hues tinted images are rounded to. Only the target's hue matters, so this bounds how many copies of each
+	 * image there can be.
+	 * 
+	 * @since October 18, 2026
+	 */
+	public static final int HUE_STEPS = 64;
+
+	/**
+	 * Tinted copies of images, keyed by the image's number and the target hue step, in order of when they were last
+	 * used (oldest first).
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static final LinkedHashMap<Long, BufferedImage> tinted = new LinkedHashMap<Long, BufferedImage>( 16, 0.75f, true );
+
+	/**
+	 * A small number for each image we've tinted, for the keys.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static final IdentityHashMap<Image, Integer> tintedImageNumbers = new IdentityHashMap<Image, Integer>();
+
+	/**
+	 * How many bytes the tinted images take up.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static long tintMemoryUsed = 0;
+
+	/**
+	 * The threads that shift big images. Started when first needed.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static ExecutorService tintWorkers = null;
+
 	/**
 	 * Imports all of the resources.
 	 */
@@ -64,44 +124,189 @@ public class ImageLibrary
 		return stationTurret;
 	}
 
-	public static Image hueShift( BufferedImage img, Color target )
+	/**
+	 * Returns which of the <code>HUE_STEPS</code> hues the given color is nearest.
+	 * 
+	 * @param hsb somewhere to work out the color's hue, so nothing is allocated
+	 * @since October 18, 2026
+	 */
+	public static int getHueStep( Color target, float[] hsb )
+	{
+		Color.RGBtoHSB( target.getRed(), target.getGreen(), target.getBlue(), hsb );
+		return Math.round( hsb[0] * HUE_STEPS ) % HUE_STEPS;
+	}
+
+	/**
+	 * Returns the given image with its hue shifted most of the way to the given hue step (see
+	 * <code>getHueStep</code>). Each pair of image and hue is shifted once and then cached, so this can be called every
+	 * frame.
+	 * 
+	 * @return the tinted image, or <code>null</code> if <code>img</code> hasn't loaded yet
+	 * @since October 18, 2026
+	 */
+	public static synchronized BufferedImage getTinted( Image img, int hueStep )
 	{
-		// start making the image
-		BufferedImage ret = new BufferedImage( img.getWidth(), img.getHeight(), BufferedImage.TYPE_INT_ARGB );
+		Integer number = tintedImageNumbers.get( img );
+		if ( number == null )
+		{
+			number = tintedImageNumbers.size();
+			tintedImageNumbers.put( img, number );
+		}
+
+		Long key = ( (long) number << 32 ) | hueStep;
+		BufferedImage tint = tinted.get( key );
+		if ( tint == null )
+		{
+			BufferedImage source = toBufferedImage( img );
+			if ( source == null )
+				return null;
 
-		// figure out what color you want
-		float targetHue;
-		{// I want these variables to go out of scope soon so I can reuse names
+			tint = hueShift( source, (float) hueStep / HUE_STEPS );
+			tinted.put( key, tint );
+			tintMemoryUsed += 4L * tint.getWidth() * tint.getHeight();
 
-			int red = target.getRed();
-			int green = target.getGreen();
-			int blue = target.getBlue();
-			targetHue = Color.RGBtoHSB( red, green, blue, new float[3] )[0];
+			// Throw out the least recently used until we're under budget.
+			Iterator<BufferedImage> it = tinted.values().iterator();
+			while ( tintMemoryUsed > TINT_MEMORY_BUDGET && it.hasNext() )
+			{
+				BufferedImage old = it.next();
+				tintMemoryUsed -= 4L * old.getWidth() * old.getHeight();
+				it.remove();
+			}
 		}
-		// prepare to draw
-		Graphics2D gimg = ret.createGraphics();
+		return tint;
+	}
+
+	/**
+	 * Returns a copy of the image with its hue shifted most of the way to <code>target</code>'s.
+	 */
+	public static BufferedImage hueShift( BufferedImage img, Color target )
+	{
+		return hueShift( img, Color.RGBtoHSB( target.getRed(), target.getGreen(), target.getBlue(), null )[0] );
+	}
 
-		// loop through pixels
-		for ( int x = 0; x < img.getWidth(); x++ )
+	/**
+	 * Returns a copy of the image with its hue shifted most of the way to <code>targetHue</code>.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static BufferedImage hueShift( BufferedImage img, float targetHue )
+	{
+		int width = img.getWidth(), height = img.getHeight();
+		int[] source = img.getRGB( 0, 0, width, height, null, 0, width );
+
+		// Shift straight into the new image's pixels.
+		BufferedImage ret = new BufferedImage( width, height, BufferedImage.TYPE_INT_ARGB );
+		int[] pixels = ( (DataBufferInt) ret.getRaster().getDataBuffer() ).getData();
+
+		// Split big images into bands of rows, and shift them at once.
+		int bands = ( width * height < PARALLEL_PIXELS ) ? 1 : Runtime.getRuntime().availableProcessors();
+		if ( bands == 1 )
+			hueShiftRows( source, pixels, width, 0, height, targetHue );
+		else
 		{
-			for ( int y = 0; y < img.getHeight(); y++ )
+			ArrayList<Future<?>> work = new ArrayList<Future<?>>( bands );
+			for ( int b = 0; b < bands; b++ )
+				work.add( getTintWorkers().submit( new HueShiftBand( source, pixels, width, height * b / bands, height * ( b + 1 ) / bands, targetHue ) ) );
+			try
+			{
+				for ( Future<?> f : work )
+					f.get();
+			}
+			catch ( Exception e )
 			{
-				// get what's there, and split it up
-				int present = img.getRGB( x, y );
-				int blue = ( present & 0x0000FF );
-				int green = ( ( present & 0x00FF00 ) >> 8 );
-				int red = ( ( present & 0xFF0000 ) >> 16 );
-
-				// convert to HSB
-				float[] hsb = { 0f, 0f, 0f };
-				Color.RGBtoHSB( red, green, blue, hsb );
-
-				// change the hue, and draw the pixel
-				Color newCol = Color.getHSBColor( ( 9f * targetHue + hsb[0] ) / 10f, hsb[1], hsb[2] );
-				gimg.setColor( newCol );
-				gimg.drawRect( x, y, 1, 1 );
+				// Finish it ourselves.
+				hueShiftRows( source, pixels, width, 0, height, targetHue );
 			}
 		}
 		return ret;
 	}
+
+	/**
+	 * Shifts the hue of rows <code>fromRow</code> (inclusive) to <code>toRow</code> (exclusive), most of the way to
+	 * <code>targetHue</code>. Alpha is kept.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static void hueShiftRows( int[] source, int[] pixels, int width, int fromRow, int toRow, float targetHue )
+	{
+		float[] hsb = new float[3];
+		for ( int i = fromRow * width; i < toRow * width; i++ )
+		{
+			int present = source[i];
+			Color.RGBtoHSB( ( present >> 16 ) & 0xFF, ( present >> 8 ) & 0xFF, present & 0xFF, hsb );
+			pixels[i] = ( present & 0xFF000000 ) | ( Color.HSBtoRGB( ( 9f * targetHue + hsb[0] ) / 10f, hsb[1], hsb[2] ) & 0xFFFFFF );
+		}
+	}
+
+	/**
+	 * Returns the image as a <code>BufferedImage</code>, copying it if it isn't one; or <code>null</code> if it hasn't
+	 * loaded yet.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static BufferedImage toBufferedImage( Image img )
+	{
+		if ( img instanceof BufferedImage )
+			return (BufferedImage) img;
+		if ( img.getWidth( null ) <= 0 || img.getHeight( null ) <= 0 )
+			return null;
+
+		BufferedImage copy = new BufferedImage( img.getWidth( null ), img.getHeight( null ), BufferedImage.TYPE_INT_ARGB );
+		Graphics2D g = copy.createGraphics();
+		g.drawImage( img, 0, 0, null );
+		g.dispose();
+		return copy;
+	}
+
+	/**
+	 * Returns the threads that shift big images, starting them if needed.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static synchronized ExecutorService getTintWorkers()
+	{
+		if ( tintWorkers == null )
+		{
+			tintWorkers = Executors.newFixedThreadPool( Runtime.getRuntime().availableProcessors(), new ThreadFactory()
+			{
+				public Thread newThread( Runnable r )
+				{
+					Thread t = new Thread( r, "Tint thread" );
+					t.setDaemon( true );
+					return t;
+				}
+			} );
+		}
+		return tintWorkers;
+	}
+
+	/**
+	 * One band of rows for <code>hueShift</code> to shift on a worker thread.
+	 * 
+	 * @since October 18, 2026
+	 */
+	private static class HueShiftBand implements Runnable
+	{
+		private final int[] source, pixels;
+
+		private final int width, fromRow, toRow;
+
+		private final float targetHue;
+
+		HueShiftBand( int[] source, int[] pixels, int width, int fromRow, int toRow, float targetHue )
+		{
+			this.source = source;
+			this.pixels = pixels;
+			this.width = width;
+			this.fromRow = fromRow;
+			this.toRow = toRow;
+			this.targetHue = targetHue;
+		}
+
+		public void run()
+		{
+			hueShiftRows( source, pixels, width, fromRow, toRow, targetHue );
+		}
+	}
 }
@@ -6,7 +6,6 @@ package disasteroids.gui;
 
 import java.awt.Color;
 import java.awt.Cursor;
-import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Frame;
 import java.awt.Graphics;
@@ -21,7 +20,6 @@ import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.awt.geom.AffineTransform;
 
 import javax.swing.SwingUtilities;
 
@@ -94,10 +92,18 @@ public class MainWindow extends Frame
 			}
 		} );
 		GameLoop.startLoop();
+
+		// Draw frames ourselves, instead of waiting for AWT.
+		setIgnoreRepaint( true );
+		RenderLoop.setFrameRateCap( Settings.getFrameRateCap() );
+		RenderLoop.setVsync( Settings.isVsync() );
+		Radar.setRefreshRate( Settings.getRadarRefreshRate() );
+		RenderLoop.startLoop();
 	}
 
 	public void close()
 	{
+		RenderLoop.stopLoop();
 		dispose();
 		frame = null;
 	}
@@ -106,6 +112,7 @@ public class MainWindow extends Frame
 	{
 		gameCanvas.background.init();
 		ParticleManager.clear();
+		SpriteCache.clear();
 	}
 
 	public void showStartMessage( String message )
@@ -124,6 +131,7 @@ public class MainWindow extends Frame
 		gameCanvas.background.clearMessages();
 		gameCanvas.notificationMessages.clear();
 		ParticleManager.clear();
+		SpriteCache.clear();
 
 		// Reset the background.
 		gameCanvas.background.init();
@@ -149,24 +157,6 @@ public class MainWindow extends Frame
 		 */
 	}
 
-	@Override
-	public void setSize( int width, int height )
-	{
-		super.setSize( width, height );
-
-		// Force the main image to be resized.
-		gameCanvas.virtualMem = null;
-	}
-
-	@Override
-	public void setSize( Dimension d )
-	{
-		super.setSize( d );
-
-		// Force the main image to be resized.
-		gameCanvas.virtualMem = null;
-	}
-
 	/**
 	 * Sets the fullscreen/window mode based on the setting.
 	 * 
@@ -249,9 +239,11 @@ public class MainWindow extends Frame
 	{
 		x = RelativeGraphics.translateX( x );
 		y = RelativeGraphics.translateY( y );
-		graph.setColor( col );
-		if ( x > -radius * 2 && x < Game.getInstance().GAME_WIDTH + radius * 2 && y > -radius * 2 && y < Game.getInstance().GAME_HEIGHT + radius * 2 )
+		if ( x > -radius * 2 && x < getWidth() + radius * 2 && y > -radius * 2 && y < getHeight() + radius * 2 )
+		{
+			graph.setColor( col );
 			graph.drawOval( x - radius, y - radius, radius * 2, radius * 2 );
+		}
 	}
 
 	/**
@@ -278,18 +270,22 @@ public class MainWindow extends Frame
 	{
 		x = RelativeGraphics.translateX( x );
 		y = RelativeGraphics.translateY( y );
-		graph.setColor( col );
-		if ( x > -length && x < Game.getInstance().GAME_WIDTH + length && y > -length && y < Game.getInstance().GAME_HEIGHT + length )
+		if ( x > -length && x < getWidth() + length && y > -length && y < getHeight() + length )
+		{
+			graph.setColor( col );
 			graph.drawLine( x, y, (int) ( x + length * Math.cos( angle ) ), (int) ( y - length * Math.sin( angle ) ) );
+		}
 	}
 
 	public void drawLine( Graphics graph, Color col, int x, int y, int length, int offset, double angle )
 	{
 		x = RelativeGraphics.translateX( x );
 		y = RelativeGraphics.translateY( y );
-		graph.setColor( col );
-		if ( x > -length && x < Game.getInstance().GAME_WIDTH + length && y > -length && y < Game.getInstance().GAME_HEIGHT + length )
+		if ( x > -length && x < getWidth() + length && y > -length && y < getHeight() + length )
+		{
+			graph.setColor( col );
 			graph.drawLine( (int) ( x + offset * Math.cos( angle ) ), (int) ( y - offset * Math.sin( angle ) ), (int) ( x + length * Math.cos( angle ) ), (int) ( y - length * Math.sin( angle ) ) );
+		}
 	}
 
 	/**
@@ -305,9 +301,11 @@ public class MainWindow extends Frame
 	{
 		x = RelativeGraphics.translateX( x );
 		y = RelativeGraphics.translateY( y );
-		graph.setColor( col );
-		if ( x > -2 * radius && x < Game.getInstance().GAME_WIDTH + radius * 2 && y > -radius * 2 && y < Game.getInstance().GAME_HEIGHT + radius * 2 )
+		if ( x > -2 * radius && x < getWidth() + radius * 2 && y > -radius * 2 && y < getHeight() + radius * 2 )
+		{
+			graph.setColor( col );
 			graph.fillOval( x - radius, y - radius, radius * 2, radius * 2 );
+		}
 	}
 
 	public void drawString( Graphics graph, int x, int y, String str, Color col )
@@ -360,7 +358,8 @@ public class MainWindow extends Frame
 	}
 
 	/**
-	 * Draws an <code>Image</code> correctly rotated, translated, and scaled
+	 * Draws an <code>Image</code> correctly rotated, translated, and scaled. The rotated and scaled copy comes from the
+	 * <code>SpriteCache</code>, so this is a plain blit.
 	 * @param g The <code>Graphics</code> context in which to draw
 	 * @param img The raw <code>Image</code> to draw
 	 * @param x The absolute x coordinate of the center of the <code>Image</code>
@@ -371,14 +370,23 @@ public class MainWindow extends Frame
 	 * @since March 30, 2008
 	 */
 	public void drawImage( Graphics g, Image img, int x, int y, double angle, double scale )
+	{
+		drawImage( g, img, x, y, angle, scale, null );
+	}
+
+	/**
+	 * Draws an <code>Image</code> like <code>drawImage( g, img, x, y, angle, scale )</code>, with its hue shifted
+	 * towards <code>tint</code>'s (unless it's <code>null</code>).
+	 * 
+	 * @since October 18, 2026
+	 */
+	public void drawImage( Graphics g, Image img, int x, int y, double angle, double scale, Color tint )
 	{
 		// [PC] Prevent a bug caused by the game drawing asteroids and aliens (anything that scales, really) before they're
 		// fully constructed.
 		if ( scale < 0 )
 			return;
 
-		GameCanvas.updateQualityRendering( g, false );
-		AffineTransform af = new AffineTransform();
 		x = RelativeGraphics.translateX( x );
 		y = RelativeGraphics.translateY( y );
 
@@ -387,13 +395,8 @@ public class MainWindow extends Frame
 			y -= Game.getInstance().GAME_HEIGHT;
 		if ( x + img.getWidth( null ) * scale >= Game.getInstance().GAME_WIDTH )
 			x -= Game.getInstance().GAME_HEIGHT;
-		af.translate( x, y );
-		af.scale( scale, scale );
-		af.rotate( angle );
-		af.translate( -img.getWidth( null ) / 2, -img.getHeight( null ) / 2 );
 
-		( (Graphics2D) g ).drawImage( img, af, null );
-		GameCanvas.updateQualityRendering( g, Settings.isQualityRendering() );
+		SpriteCache.draw( g, img, tint, x, y, angle, scale );
 	}
 
 	/**
@@ -406,9 +409,7 @@ public class MainWindow extends Frame
 	 */
 	public void drawImage( Graphics g, Image img, int x, int y )
 	{
-		GameCanvas.updateQualityRendering( g, false );
 		g.drawImage( img, RelativeGraphics.translateX( x, img.getWidth( null ) ), RelativeGraphics.translateY( y, img.getHeight( null ) ), null );
-		GameCanvas.updateQualityRendering( g, Settings.isQualityRendering() );
 	}
 
 	/**
@@ -0,0 +1,120 @@
+/*
+ * DISASTEROIDS
+ * ParticleBudget.java
+ */
+package disasteroids.gui;
+
+import disasteroids.game.GameLoop;
+
+/**
+ * Decides how many particles we can afford, from how long frames and ticks are actually taking.
+ *
+ * The <code>GameCanvas</code> reports how long each frame took to draw, and the <code>GameLoop</code> how long each
+ * tick took. Each is smoothed, and compared to its budget (<code>TARGET_FRAME_TIME</code>, and the tick period). While
+ * either is over budget, the particle level drops quickly; once both are comfortably under, it climbs back slowly.
+ * The level then scales how likely new particles are to be accepted, how many can exist, how long they live, and how
+ * many of them are drawn.
+ *
+ * @author Phillip Cohen
+ * @since October 18, 2026
+ */
+public class ParticleBudget
+{
+	/**
+	 * How long we'd like a frame to take to draw, in nanoseconds (60 frames per second).
+	 */
+	public static final long TARGET_FRAME_TIME = 1000000000L / 60;
+
+	/**
+	 * The lowest level we'll drop to, so effects never disappear entirely.
+	 */
+	private static final double MIN_LEVEL = 0.1;
+
+	/**
+	 * How quickly the level drops while over budget, and climbs while under.
+	 */
+	private static final double DROP_RATE = 0.9, CLIMB_RATE = 0.01;
+
+	/**
+	 * How much of the budget we can use before we stop climbing.
+	 */
+	private static final double HEADROOM = 0.8;
+
+	/**
+	 * The smoothed frame and tick times, in nanoseconds.
+	 */
+	private static volatile double frameTime = 0, tickTime = 0;
+
+	/**
+	 * The current level, from <code>MIN_LEVEL</code> (struggling) to 1 (plenty of time).
+	 */
+	private static volatile double level = 1;
+
+	/**
+	 * Notes how long a frame took to draw, and adjusts the level.
+	 *
+	 * @param nanos the time taken, in nanoseconds
+	 */
+	public static void frameDrawn( long nanos )
+	{
+		frameTime = frameTime * 0.9 + nanos * 0.1;
+		tickTime = tickTime * 0.9 + GameLoop.getLastTickTime() * 0.1;
+
+		double load = Math.max( frameTime / TARGET_FRAME_TIME, tickTime / GameLoop.getPeriod() );
+		if ( load > 1 )
+			level = Math.max( MIN_LEVEL, level * DROP_RATE );
+		else if ( load < HEADROOM )
+			level = Math.min( 1, level + CLIMB_RATE );
+	}
+
+	/**
+	 * Returns the current level, from <code>MIN_LEVEL</code> to 1.
+	 */
+	public static double getLevel()
+	{
+		return level;
+	}
+
+	/**
+	 * Returns the chance that a new particle is accepted.
+	 */
+	public static double getSpawnChance()
+	{
+		return level;
+	}
+
+	/**
+	 * Returns the most particles that should exist at once, out of <code>capacity</code>.
+	 */
+	public static int getParticleLimit( int capacity )
+	{
+		return (int) ( capacity * level );
+	}
+
+	/**
+	 * Returns how much to scale new particles' lives by.
+	 */
+	public static double getLifeScale()
+	{
+		return 0.5 + 0.5 * level;
+	}
+
+	/**
+	 * Returns the fraction of particles to draw.
+	 *
+	 * @param qualityRendering whether the user wants quality rendering; in speed rendering, at most a tenth are drawn
+	 */
+	public static double getDrawFraction( boolean qualityRendering )
+	{
+		return ( qualityRendering ? 1 : 0.1 ) * level;
+	}
+
+	/**
+	 * Forgets what we've measured, and starts again at full detail.
+	 */
+	public static void reset()
+	{
+		frameTime = tickTime = 0;
+		level = 1;
+	}
+}
@@ -6,93 +6,377 @@ package disasteroids.gui;
 
 import java.awt.Color;
 import java.awt.Graphics;
-import java.util.Iterator;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
+import disasteroids.Main;
+import disasteroids.Settings;
 import disasteroids.Util;
+import disasteroids.game.GameLoop;
+import disasteroids.game.LongObjectMap;
 
 /**
- * Game-wide manager of <code>Particle</code>s.
+ * Game-wide manager of particles, the little fading dots used in effects.
+ *
+ * Particles are kept in a fixed-size ring of primitive arrays, oldest first. Dead particles leave holes until
+ * everything older than them has died too; if the ring fills up, the oldest particle is dropped to make room.
+ * Rather than a <code>Color</code> for each particle, each one points to a palette of its color fading to black,
+ * which is shared by every particle of that color. So nothing is allocated to move or draw them.
+ *
+ * How many are accepted, how long they live and how many are drawn is up to the <code>ParticleBudget</code>.
+ *
+ * Particles are purely for show, so they're kept off the game thread: they're moved by the render thread, once per
+ * frame, by however many game steps' worth of time has passed. Gameplay code asks for new particles through
+ * <code>addParticle</code>, which only puts the request in a lock-free queue; the render thread spawns them when it
+ * next moves everything. Only the render thread touches the particles themselves. A headless server never makes
+ * any.
+ *
  * @author Phillip Cohen, Andy Kooiman
  */
 public class ParticleManager
 {
 	/**
-	 * A list of all current <code>Particle</code>s.
-	 * @since Classic
+	 * The most particles that can exist at once. A power of two.
+	 * @since October 18, 2026
+	 */
+	private static final int CAPACITY = 4096;
+
+	/**
+	 * The number of steps each particle's color fades through.
+	 * @since October 18, 2026
 	 */
-	private static ConcurrentLinkedQueue<Particle> allParticles = new ConcurrentLinkedQueue<Particle>();
+	static final int FADE_LEVELS = 32;
 
 	/**
-	 * An estimated count of the <code>Particles</code>, since allParticles#size() is an O(n) operation
-	 * @see ConcurrentLinkedQueue#allParticles
+	 * Each particle's location, velocity, diameter and rate of growth.
+	 * @since October 18, 2026
+	 */
+	private static final double[] x = new double[CAPACITY], y = new double[CAPACITY], dx = new double[CAPACITY], dy = new double[CAPACITY];
+
+	private static final double[] size = new double[CAPACITY], deltaSize = new double[CAPACITY];
+
+	/**
+	 * Each particle's remaining and original life. Dead particles have no life left.
+	 * @since October 18, 2026
+	 */
+	private static final double[] life = new double[CAPACITY], lifeMax = new double[CAPACITY];
+
+	/**
+	 * Each particle's color palette (see <code>getPalette</code>).
+	 * @since October 18, 2026
+	 */
+	private static final Color[][] palettes = new Color[CAPACITY][];
+
+	/**
+	 * A random number in [0, 1) for each particle. It's drawn if this is under the budget's draw fraction.
+	 * @since October 18, 2026
+	 */
+	private static final float[] drawSample = new float[CAPACITY];
+
+	/**
+	 * The oldest slot in the ring, and the number of slots in use from there (living or not).
+	 * @since October 18, 2026
+	 */
+	private static int tail = 0, used = 0;
+
+	/**
+	 * The number of living particles.
+	 * @since October 18, 2026
 	 */
 	private static int particleCount = 0;
 
 	/**
-	 * Adds the specified <code>Particle</code>.
-	 * 
-	 * @param p the <code>Particle</code> to be added
+	 * The most game steps' worth of movement done in one frame, so particles don't jump after a pause.
+	 * @since October 18, 2026
+	 */
+	private static final double MAX_STEPS_PER_FRAME = 5;
+
+	/**
+	 * When particles were last moved, from <code>System.nanoTime</code>; 0 if never.
+	 * @since October 18, 2026
+	 */
+	private static long lastActTime = 0;
+
+	/**
+	 * Whether <code>clear</code> has been called since particles were last moved.
+	 * @since October 18, 2026
+	 */
+	private static volatile boolean clearRequested = false;
+
+	/**
+	 * The number of requests that the spawn queue holds. A power of two.
+	 * @since October 18, 2026
+	 */
+	private static final int QUEUE_CAPACITY = 4096;
+
+	/**
+	 * The spawn queue: the parameters of each requested particle.
+	 * @since October 18, 2026
+	 */
+	private static final double[] queuedX = new double[QUEUE_CAPACITY], queuedY = new double[QUEUE_CAPACITY], queuedSize = new double[QUEUE_CAPACITY], queuedSpeed = new double[QUEUE_CAPACITY],
+			queuedAngle = new double[QUEUE_CAPACITY], queuedLifeMax = new double[QUEUE_CAPACITY], queuedLifeMin = new double[QUEUE_CAPACITY];
+
+	private static final int[] queuedRgb = new int[QUEUE_CAPACITY];
+
+	/**
+	 * Each queue slot's sequence number. A slot can be written at position <code>p</code> once its sequence is
+	 * <code>p</code>, and read once it's <code>p + 1</code>.
+	 * @since October 18, 2026
+	 */
+	private static final AtomicLongArray queueSequences = new AtomicLongArray( QUEUE_CAPACITY );
+
+	static
+	{
+		for ( int i = 0; i < QUEUE_CAPACITY; i++ )
+			queueSequences.set( i, i );
+	}
+
+	/**
+	 * The next position to write to (claimed by any thread), and to read from (render thread only).
+	 * @since October 18, 2026
+	 */
+	private static final AtomicLong queueHead = new AtomicLong();
+
+	private static long queueTail = 0;
+
+	/**
+	 * Palettes of each color fading to black, keyed by the color's RGB (rounded a little, so similar colors share).
+	 * @since October 18, 2026
+	 */
+	private static final LongObjectMap<Color[]> paletteCache = new LongObjectMap<Color[]>( 64 );
+
+	/**
+	 * Adds a particle.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param size The diameter.
+	 * @param c The <code>Color</code>.
+	 * @param speed The speed.
+	 * @param angle The direction.
+	 * @param lifemax The longest this particle can live.
+	 * @param lifemin The least amount of time this particle can live.
 	 * @since Classic
 	 */
-	public static void addParticle( Particle p )
-	{ // always add if less than 1000; less likely if there are already that many in the list.
-		if ( Util.getGraphicsRandomGenerator().nextInt( Math.max( particleCount, 1 ) ) < 400 )
+	public static void addParticle( double x, double y, double size, Color c, double speed, double angle, double lifemax, double lifemin )
+	{
+		addParticle( x, y, size, c.getRGB(), speed, angle, lifemax, lifemin );
+	}
+
+	/**
+	 * Adds a particle whose color is given as RGB.
+	 *
+	 * @see #addParticle(double, double, double, Color, double, double, double, double)
+	 * @since October 18, 2026
+	 */
+	public static void addParticle( double x, double y, double size, int rgb, double speed, double angle, double lifemax, double lifemin )
+	{
+		if ( Main.isHeadless() )
+			return;
+
+		// Claim a slot in the queue. If it's full, the particle is dropped.
+		long position;
+		while ( true )
 		{
-			allParticles.add( p );
-			++particleCount;
+			position = queueHead.get();
+			long sequence = queueSequences.get( (int) position & ( QUEUE_CAPACITY - 1 ) );
+			if ( sequence < position )
+				return;
+			if ( sequence == position && queueHead.compareAndSet( position, position + 1 ) )
+				break;
 		}
+
+		int slot = (int) position & ( QUEUE_CAPACITY - 1 );
+		queuedX[slot] = x;
+		queuedY[slot] = y;
+		queuedSize[slot] = size;
+		queuedRgb[slot] = rgb;
+		queuedSpeed[slot] = speed;
+		queuedAngle[slot] = angle;
+		queuedLifeMax[slot] = lifemax;
+		queuedLifeMin[slot] = lifemin;
+
+		// Publish it.
+		queueSequences.set( slot, position + 1 );
 	}
 
 	/**
-	 * Instructs all <code>Particle</code>s to act and removes old ones.
-	 * 
+	 * Spawns the queued particles, then moves all particles and removes old ones. Called by the render thread once
+	 * per frame.
+	 *
 	 * @since Classic
 	 */
 	public static void act()
 	{
-		Iterator<Particle> itr = allParticles.iterator();
-		while ( itr.hasNext() )
+		if ( clearRequested )
 		{
-			Particle p = itr.next();
-			if ( p.shouldRemove() )
+			clearRequested = false;
+			for ( int i = 0; i < CAPACITY; i++ )
 			{
-				itr.remove();
+				life[i] = 0;
+				palettes[i] = null;
+			}
+			tail = used = particleCount = 0;
+			while ( pollQueue( false ) )
+				;
+		}
+
+		while ( pollQueue( true ) )
+			;
+
+		// How many game steps' worth of time has passed?
+		long now = System.nanoTime();
+		double steps = ( lastActTime == 0 ) ? 1 : Math.min( (double) ( now - lastActTime ) / GameLoop.getPeriod(), MAX_STEPS_PER_FRAME );
+		lastActTime = now;
+		double drag = Math.pow( 0.998, steps );
+
+		for ( int i = 0; i < used; i++ )
+		{
+			int slot = ( tail + i ) & ( CAPACITY - 1 );
+			if ( life[slot] <= 0 )
+				continue;
+
+			if ( life[slot] <= 1 )
+			{
+				life[slot] = 0;
 				--particleCount;
+				continue;
 			}
-			else
-				p.act();
+
+			life[slot] = Math.max( life[slot] - steps, 1 );
+			x[slot] += dx[slot] * steps;
+			y[slot] += dy[slot] * steps;
+			size[slot] += deltaSize[slot] * steps;
+			dx[slot] *= drag;
+			dy[slot] *= drag;
+		}
+
+		// Free up the dead at the old end.
+		while ( used > 0 && life[tail] <= 0 )
+		{
+			palettes[tail] = null;
+			tail = ( tail + 1 ) & ( CAPACITY - 1 );
+			--used;
 		}
 	}
 
+	/**
+	 * Takes the next request off the spawn queue, and spawns it if <code>spawn</code> is set.
+	 *
+	 * @return whether there was a request
+	 * @since October 18, 2026
+	 */
+	private static boolean pollQueue( boolean spawn )
+	{
+		int slot = (int) queueTail & ( QUEUE_CAPACITY - 1 );
+		if ( queueSequences.get( slot ) != queueTail + 1 )
+			return false;
+
+		if ( spawn )
+			spawn( queuedX[slot], queuedY[slot], queuedSize[slot], queuedRgb[slot], queuedSpeed[slot], queuedAngle[slot], queuedLifeMax[slot], queuedLifeMin[slot] );
+
+		// Free the slot for the next lap.
+		queueSequences.set( slot, queueTail + QUEUE_CAPACITY );
+		queueTail++;
+		return true;
+	}
+
+	/**
+	 * Puts a new particle in the ring, if the budget allows.
+	 *
+	 * @since October 18, 2026
+	 */
+	private static void spawn( double x, double y, double size, int rgb, double speed, double angle, double lifemax, double lifemin )
+	{
+		// Can we afford it?
+		if ( particleCount >= ParticleBudget.getParticleLimit( CAPACITY ) || Util.getGraphicsRandomGenerator().nextDouble() >= ParticleBudget.getSpawnChance() )
+			return;
+
+		// Out of room? Drop the oldest.
+		if ( used == CAPACITY )
+		{
+			if ( ParticleManager.life[tail] > 0 )
+				--particleCount;
+			tail = ( tail + 1 ) & ( CAPACITY - 1 );
+			--used;
+		}
+
+		int slot = ( tail + used ) & ( CAPACITY - 1 );
+		ParticleManager.life[slot] = ( Util.getGraphicsRandomGenerator().nextDouble() * lifemax + lifemin ) * ParticleBudget.getLifeScale();
+		ParticleManager.lifeMax[slot] = ParticleManager.life[slot];
+		ParticleManager.x[slot] = x;
+		ParticleManager.y[slot] = y;
+		ParticleManager.size[slot] = size;
+		ParticleManager.dx[slot] = speed * Math.cos( angle );
+		ParticleManager.dy[slot] = -speed * Math.sin( angle );
+		ParticleManager.palettes[slot] = getPalette( rgb );
+		ParticleManager.deltaSize[slot] = Util.getGraphicsRandomGenerator().nextDouble() - 0.6;
+		ParticleManager.drawSample[slot] = Util.getGraphicsRandomGenerator().nextFloat();
+
+		++used;
+		++particleCount;
+	}
+
 	/**
 	 * Draws all particles.
-	 * 
+	 *
 	 * @since Classic
 	 */
 	public static void draw( Graphics g )
 	{
-		for ( Particle p : allParticles )
-			p.draw( g );
+		double drawFraction = ParticleBudget.getDrawFraction( Settings.isQualityRendering() );
+		int first = tail, count = used;
+		for ( int i = 0; i < count; i++ )
+		{
+			int slot = ( first + i ) & ( CAPACITY - 1 );
+			Color[] palette = palettes[slot];
+			if ( palette == null || life[slot] <= 0 || drawSample[slot] >= drawFraction )
+				continue;
+
+			int level = (int) ( life[slot] / lifeMax[slot] * ( FADE_LEVELS - 1 ) );
+			MainWindow.frame().fillCircle( g, palette[Math.max( 0, Math.min( level, FADE_LEVELS - 1 ) )], (int) x[slot], (int) y[slot], (int) size[slot] / 2 );
+		}
 	}
 
 	/**
 	 * Removes all particles.
-	 * 
+	 *
 	 * @since March 9, 2008
 	 */
 	public static void clear()
 	{
-		allParticles.clear();
-		particleCount = 0;
+		// The render thread does the clearing, next time it moves the particles.
+		clearRequested = true;
+	}
+
+	/**
+	 * Returns the palette for the given color: <code>FADE_LEVELS</code> shades, from black up to the color itself. Also
+	 * used to fade background messages. Only call from the render thread.
+	 *
+	 * @since October 18, 2026
+	 */
+	static Color[] getPalette( int rgb )
+	{
+		// Round each channel down to a multiple of 8.
+		int key = rgb & 0xF8F8F8;
+		Color[] palette = paletteCache.get( key );
+		if ( palette == null )
+		{
+			palette = new Color[FADE_LEVELS];
+			int red = ( key >> 16 ) & 0xFF, green = ( key >> 8 ) & 0xFF, blue = key & 0xFF;
+			for ( int i = 0; i < FADE_LEVELS; i++ )
+				palette[i] = new Color( red * i / ( FADE_LEVELS - 1 ), green * i / ( FADE_LEVELS - 1 ), blue * i / ( FADE_LEVELS - 1 ) );
+			paletteCache.put( key, palette );
+		}
+		return palette;
 	}
 
 	public static void createSmoke( double x, double y, double amount )
 	{
 		for ( int i = 0; i < getNumberToMake( amount ); i++ )
 		{
-			addParticle( new Particle( x, y, Util.getGraphicsRandomGenerator().nextInt( 5 ) + 2, Util.getGraphicsRandomGenerator().nextBoolean() ? Color.gray : Color.darkGray, Util.getGraphicsRandomGenerator().nextDouble() * 3 + 1, Util
-					.getGraphicsRandomGenerator().nextDouble() * 1.6 + 0.3, 50, 30 ) );
+			addParticle( x, y, Util.getGraphicsRandomGenerator().nextInt( 5 ) + 2, Util.getGraphicsRandomGenerator().nextBoolean() ? Color.gray : Color.darkGray, Util.getGraphicsRandomGenerator().nextDouble() * 3 + 1, Util
+					.getGraphicsRandomGenerator().nextDouble() * 1.6 + 0.3, 50, 30 );
 		}
 	}
 
@@ -100,14 +384,18 @@ public class ParticleManager
 	{
 		for ( int i = 0; i < getNumberToMake( amount ); i++ )
 		{
-			addParticle( new Particle( x, y, Util.getGraphicsRandomGenerator().nextInt( 5 ) + 2, new Color( (float) ( Util.getGraphicsRandomGenerator().nextDouble() * 0.4 + 0.6 ),
-					(float) ( Util.getGraphicsRandomGenerator().nextDouble() * 0.3 + 0.2 ), 0.01f, 1 ), Util.getGraphicsRandomGenerator().nextDouble() * 3 + 1, Util.getGraphicsRandomGenerator().nextDouble() * 1.6 + 0.3, 50, 30 ) );
+			int red = (int) ( ( Util.getGraphicsRandomGenerator().nextDouble() * 0.4 + 0.6 ) * 255 + 0.5 );
+			int green = (int) ( ( Util.getGraphicsRandomGenerator().nextDouble() * 0.3 + 0.2 ) * 255 + 0.5 );
+			addParticle( x, y, Util.getGraphicsRandomGenerator().nextInt( 5 ) + 2, ( red << 16 ) | ( green << 8 ) | 3, Util.getGraphicsRandomGenerator().nextDouble() * 3 + 1, Util
+					.getGraphicsRandomGenerator().nextDouble() * 1.6 + 0.3, 50, 30 );
 		}
 	}
 
 	private static int getNumberToMake( double amountScalar )
 	{
-		if ( amountScalar < 0 )
+		if ( Main.isHeadless() )
+			return 0;
+		else if ( amountScalar < 0 )
 			return Util.getGraphicsRandomGenerator().nextDouble() < amountScalar ? 1 : 0;
 		else
 			return (int) amountScalar;
@@ -4,22 +4,30 @@
  */
 package disasteroids.gui;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics;
-import java.awt.Polygon;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 
 import disasteroids.game.Game;
+import disasteroids.game.RenderSnapshot;
 import disasteroids.game.objects.Alien;
 import disasteroids.game.objects.Asteroid;
 import disasteroids.game.objects.BlackHole;
 import disasteroids.game.objects.BonusAsteroid;
 import disasteroids.game.objects.GameObject;
 import disasteroids.game.objects.Ship;
-import disasteroids.game.objects.ShootingObject;
 import disasteroids.game.objects.Station;
 
 /**
- * 
+ * A map of the whole level, centered on the local player.
+ *
+ * The map is drawn into an image from the render snapshot only <code>refreshRate</code> times a second, and that
+ * image is blitted every frame. So turning the radar on costs about the same however much is in play.
+ *
+ * Only used by the drawing thread, except for <code>setRefreshRate</code>.
+ *
  * @author Andy
  */
 public class Radar
@@ -28,6 +36,36 @@ public class Radar
 	private static final int width = 400;
 	private static final int height = 400;
 
+	/**
+	 * The default number of times per second the map is redrawn.
+	 * @since October 18, 2026
+	 */
+	public final static int DEFAULT_REFRESH_RATE = 12;
+
+	/**
+	 * How many times per second the map is redrawn.
+	 * @since October 18, 2026
+	 */
+	private static volatile int refreshRate = DEFAULT_REFRESH_RATE;
+
+	/**
+	 * The map as last drawn (one pixel bigger than the radar, for the border), and when and how it was drawn.
+	 * @since October 18, 2026
+	 */
+	private static BufferedImage layer = null;
+
+	private static long lastRefresh = 0;
+
+	private static boolean layerOnTop = false;
+
+	private static final Color CLEAR = new Color( 0, 0, 0, 0 );
+
+	/**
+	 * The points of the ship marker, reused for each ship.
+	 * @since October 18, 2026
+	 */
+	private static final int[] shipXPoints = new int[3], shipYPoints = new int[3];
+
 	private Radar()
 	{
 		// don't go here :/
@@ -35,52 +73,101 @@ public class Radar
 
 	public static void draw( Graphics g, int cornerX, int cornerY, boolean onTop )
 	{
-		int shipX = (int) ( Local.getLocalPlayer().getX() );
-		int shipY = (int) ( Local.getLocalPlayer().getY() );
-		int topLeftX = cornerX - width - 100;
-		int topLeftY = cornerY - height - 100;
-		g.setColor( Color.black );
-		if ( onTop )
+		long now = System.nanoTime();
+		if ( layer == null || onTop != layerOnTop || now - lastRefresh >= 1000000000L / refreshRate )
 		{
-			g.fillRect( topLeftX, topLeftY, width, height );
+			refresh( onTop );
+			lastRefresh = now;
 		}
+
+		g.drawImage( layer, cornerX - width - 100, cornerY - height - 100, null );
+	}
+
+	/**
+	 * Redraws the map from the latest render snapshot.
+	 * @since October 18, 2026
+	 */
+	private static void refresh( boolean onTop )
+	{
+		if ( layer == null )
+			layer = SpriteCache.createImage( width + 1, height + 1 );
+		layerOnTop = onTop;
+
+		Graphics2D g = layer.createGraphics();
+		g.setComposite( AlphaComposite.Src );
+		g.setColor( onTop ? Color.black : CLEAR );
+		g.fillRect( 0, 0, width + 1, height + 1 );
+		g.setComposite( AlphaComposite.SrcOver );
 		g.setColor( Color.white );
-		g.drawRect( topLeftX, topLeftY, width, height );
-		for ( Asteroid a : Game.getInstance().getObjectManager().getAsteroids() )
-		{
-			drawAsteroid( g, a, shipX, shipY, topLeftX, topLeftY );
-		}
-		for ( ShootingObject so : Game.getInstance().getObjectManager().getShootingObjects() )
-		{
-			drawObject( g, so, shipX, shipY, topLeftX, topLeftY );
-		}
+		g.drawRect( 0, 0, width, height );
 
-		for ( BlackHole bh : Game.getInstance().getObjectManager().getBlackHoles() )
-			drawBlackHole( g, bh, shipX, shipY, topLeftX, topLeftY );
+		RenderSnapshot snapshot = Game.getInstance().getObjectManager().getRenderSnapshot();
+		int count = snapshot.getObjectCount();
+		int camera = snapshot.getCameraIndex();
+		double shipX = ( camera >= 0 ) ? snapshot.getObjectX( camera ) : Local.getLocalPlayer().getX();
+		double shipY = ( camera >= 0 ) ? snapshot.getObjectY( camera ) : Local.getLocalPlayer().getY();
+		double scaleX = (double) width / Game.getInstance().GAME_WIDTH, scaleY = (double) height / Game.getInstance().GAME_HEIGHT;
 
-		for ( Ship s : Game.getInstance().getObjectManager().getPlayers() )
+		// Ships go on top, so draw them last.
+		for ( int pass = 0; pass < 2; pass++ )
 		{
-			drawShip( g, s, shipX, shipY, topLeftX, topLeftY );
+			for ( int i = 0; i < count; i++ )
+			{
+				GameObject go = snapshot.getObject( i );
+				if ( go == null || go.isRemoved() || ( go instanceof Ship ) != ( pass == 1 ) )
+					continue;
+
+				// Wrap the object's offset from us into the map. It's less than a level away, so one step is enough.
+				int centerX = (int) ( ( snapshot.getObjectX( i ) - shipX ) * scaleX ) + width / 2;
+				int centerY = (int) ( ( snapshot.getObjectY( i ) - shipY ) * scaleY ) + height / 2;
+				if ( centerX < 0 )
+					centerX += width;
+				else if ( centerX >= width )
+					centerX -= width;
+				if ( centerY < 0 )
+					centerY += height;
+				else if ( centerY >= height )
+					centerY -= height;
+
+				if ( go instanceof Asteroid )
+					drawAsteroid( g, (Asteroid) go, centerX, centerY );
+				else if ( go instanceof Ship )
+					drawShip( g, (Ship) go, centerX, centerY );
+				else if ( go instanceof BlackHole )
+					drawBlackHole( g, centerX, centerY );
+				else
+					drawObject( g, go, centerX, centerY );
+			}
 		}
+		g.dispose();
+	}
+
+	/**
+	 * Sets how many times per second the map is redrawn. Takes effect on the next frame.
+	 * @since October 18, 2026
+	 */
+	public static void setRefreshRate( int rate )
+	{
+		refreshRate = Math.max( 1, rate );
 	}
 
-	private static void drawAsteroid( Graphics g, Asteroid a, int shipX, int shipY, int topLeftX, int topLeftY )
+	/**
+	 * Returns how many times per second the map is redrawn.
+	 * @since October 18, 2026
+	 */
+	public static int getRefreshRate()
+	{
+		return refreshRate;
+	}
+
+	private static void drawAsteroid( Graphics g, Asteroid a, int centerX, int centerY )
 	{
 		g.setColor( a instanceof BonusAsteroid ? Color.GREEN : Color.LIGHT_GRAY );
-		int centerX = (int) ( ( ( a.getX() - shipX ) / Game.getInstance().GAME_WIDTH * width ) + 3.5 * width ) % width + topLeftX;
-		int centerY = (int) ( ( ( a.getY() - shipY ) / Game.getInstance().GAME_HEIGHT * height ) + 3.5 * height ) % height + topLeftY;
 		g.drawOval( centerX - 2, centerY - 2, 4, 4 );
 	}
 
-	private static void drawObject( Graphics g, ShootingObject so, int shipX, int shipY, int topLeftX, int topLeftY )
+	private static void drawObject( Graphics g, GameObject go, int centerX, int centerY )
 	{
-		if ( !( so instanceof GameObject ) )
-		{
-			return;
-		}
-		GameObject go = so;
-		int centerX = (int) ( ( ( go.getX() - shipX ) / Game.getInstance().GAME_WIDTH * width ) + 3.5 * width ) % width + topLeftX;
-		int centerY = (int) ( ( ( go.getY() - shipY ) / Game.getInstance().GAME_HEIGHT * height ) + 3.5 * height ) % height + topLeftY;
 		if ( go instanceof Alien )
 		{
 			g.setColor( Color.GREEN );
@@ -95,24 +182,22 @@ public class Radar
 		}
 	}
 
-	private static void drawBlackHole( Graphics g, BlackHole bh, int shipX, int shipY, int topLeftX, int topLeftY )
+	private static void drawBlackHole( Graphics g, int centerX, int centerY )
 	{
-		int centerX = (int) ( ( ( bh.getX() - shipX ) / Game.getInstance().GAME_WIDTH * width ) + 3.5 * width ) % width + topLeftX;
-		int centerY = (int) ( ( ( bh.getY() - shipY ) / Game.getInstance().GAME_HEIGHT * height ) + 3.5 * height ) % height + topLeftY;
 		g.setColor( Color.DARK_GRAY.darker() );
 		g.fillOval( centerX - 8, centerY - 8, 16, 16 );
 	}
 
-	private static void drawShip( Graphics g, Ship s, int shipX, int shipY, int topLeftX, int topLeftY )
+	private static void drawShip( Graphics g, Ship s, int centerX, int centerY )
 	{
-		int centerX = (int) ( ( ( s.getX() - shipX ) / Game.getInstance().GAME_WIDTH * width ) + 3.5 * width ) % width + topLeftX;
-		int centerY = (int) ( ( ( s.getY() - shipY ) / Game.getInstance().GAME_HEIGHT * height ) + 3.5 * height ) % height + topLeftY;
 		g.setColor( s.getColor() );
-		Polygon p = new Polygon();
-		p.addPoint( centerX - 2, centerY + 2 );
-		p.addPoint( centerX + 2, centerY + 2 );
-		p.addPoint( centerX, centerY - 5 );
-		g.drawPolygon( p );
+		shipXPoints[0] = centerX - 2;
+		shipYPoints[0] = centerY + 2;
+		shipXPoints[1] = centerX + 2;
+		shipYPoints[1] = centerY + 2;
+		shipXPoints[2] = centerX;
+		shipYPoints[2] = centerY - 5;
+		g.drawPolygon( shipXPoints, shipYPoints, 3 );
 
 	}
 }
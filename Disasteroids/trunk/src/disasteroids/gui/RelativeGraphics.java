@@ -4,6 +4,7 @@
  */
 package disasteroids.gui;
 
+import disasteroids.Util;
 import disasteroids.game.Game;
 
 /**
@@ -13,9 +14,51 @@ import disasteroids.game.Game;
  */
 public abstract class RelativeGraphics
 {
+	/**
+	 * Where the center of the screen is this frame, and whether it's been set.
+	 *
+	 * @since October 18, 2026
+	 */
+	private static double cameraX = 0, cameraY = 0;
+
+	private static boolean cameraSet = false;
+
+	/**
+	 * Centers the screen on the given point until the next call. Set at the start of each frame, to the local player's
+	 * interpolated position.
+	 *
+	 * @since October 18, 2026
+	 */
+	public static void setCamera( double x, double y )
+	{
+		cameraX = x;
+		cameraY = y;
+		cameraSet = true;
+	}
+
+	/**
+	 * Returns the x coordinate at the center of the screen.
+	 *
+	 * @since October 18, 2026
+	 */
+	public static double getCameraX()
+	{
+		return cameraSet ? cameraX : Local.getLocalPlayer().getX();
+	}
+
+	/**
+	 * Returns the y coordinate at the center of the screen.
+	 *
+	 * @since October 18, 2026
+	 */
+	public static double getCameraY()
+	{
+		return cameraSet ? cameraY : Local.getLocalPlayer().getY();
+	}
+
 	public static int translateX( double x, double width )
 	{
-		double newX = Math.round( ( x - Local.getLocalPlayer().getX() + MainWindow.frame().getWidth() / 2 + 4 * Game.getInstance().GAME_WIDTH ) % Game.getInstance().GAME_WIDTH + MainWindow.frame().getRumbleX() - width / 2 );
+		double newX = Math.round( ( x - getCameraX() + MainWindow.frame().getWidth() / 2 + 4 * Game.getInstance().GAME_WIDTH ) % Game.getInstance().GAME_WIDTH + MainWindow.frame().getRumbleX() - width / 2 );
 
 		// Some large images (i.e, black holes) need to be wrapped.
 		if ( newX + width >= Game.getInstance().GAME_WIDTH )
@@ -31,7 +74,7 @@ public abstract class RelativeGraphics
 
 	public static int translateY( double y, double height )
 	{
-		double newY = (int) Math.round( ( y - Local.getLocalPlayer().getY() + MainWindow.frame().getHeight() / 2 + 4 * Game.getInstance().GAME_HEIGHT ) % Game.getInstance().GAME_HEIGHT + MainWindow.frame().getRumbleY() - height / 2 );
+		double newY = (int) Math.round( ( y - getCameraY() + MainWindow.frame().getHeight() / 2 + 4 * Game.getInstance().GAME_HEIGHT ) % Game.getInstance().GAME_HEIGHT + MainWindow.frame().getRumbleY() - height / 2 );
 
 		// Some large images (i.e, black holes) need to be wrapped.
 		if ( newY + height >= Game.getInstance().GAME_HEIGHT )
@@ -46,18 +89,15 @@ public abstract class RelativeGraphics
 	}
 
 	/**
-	 * Returns the location directly opposite the first player.
-	 */
-	public static int oppositeX()
-	{
-		return (int) ( ( Game.getInstance().getObjectManager().getPlayers().peek().getX() + Game.getInstance().GAME_WIDTH / 2 ) ) % Game.getInstance().GAME_WIDTH;
-	}
-
-	/**
-	 * Rreturns the location directly opposite the first player.
+	 * Returns whether anything within <code>radius</code> of the given point would be on screen, around either side of
+	 * the world.
+	 *
+	 * @since October 18, 2026
 	 */
-	public static int oppositeY()
+	public static boolean isOnScreen( double x, double y, double radius )
 	{
-		return (int) ( Game.getInstance().getObjectManager().getPlayers().peek().getY() + Game.getInstance().GAME_HEIGHT / 2 ) % Game.getInstance().GAME_HEIGHT;
+		double reachX = MainWindow.frame().getWidth() / 2 + Math.abs( MainWindow.frame().getRumbleX() ) + radius;
+		double reachY = MainWindow.frame().getHeight() / 2 + Math.abs( MainWindow.frame().getRumbleY() ) + radius;
+		return Math.abs( Util.getDeltaX( x, getCameraX() ) ) <= reachX && Math.abs( Util.getDeltaY( y, getCameraY() ) ) <= reachY;
 	}
 }
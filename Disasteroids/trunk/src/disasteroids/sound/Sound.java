@@ -4,6 +4,7 @@
  */
 package disasteroids.sound;
 
+import disasteroids.Main;
 import disasteroids.Settings;
 
 /**
@@ -93,7 +94,7 @@ public class Sound
 	 */
 	public static void playInternal( LayeredSound.SoundClip s )
 	{
-		if ( Settings.isSoundOn() )
+		if ( Settings.isSoundOn() && !Main.isHeadless() )
 			new SpeakerThread( s ).start();
 	}
 